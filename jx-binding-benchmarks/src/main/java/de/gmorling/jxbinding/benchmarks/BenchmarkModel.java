@@ -0,0 +1,66 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.benchmarks;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * The model bean bound by the benchmarks.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class BenchmarkModel {
+
+    private final StringProperty name = new SimpleStringProperty( this, "name" );
+
+    private final IntegerProperty age = new SimpleIntegerProperty( this, "age" );
+
+    @NotNull
+    @Size(min = 3, max = 50)
+    public String getName() {
+        return name.get();
+    }
+
+    public void setName(String name) {
+        this.name.set( name );
+    }
+
+    public StringProperty nameProperty() {
+        return name;
+    }
+
+    @Min(0)
+    public int getAge() {
+        return age.get();
+    }
+
+    public void setAge(int age) {
+        this.age.set( age );
+    }
+
+    public IntegerProperty ageProperty() {
+        return age;
+    }
+
+}
@@ -0,0 +1,58 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.SimpleStringProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gmorling.jxbinding.BindingContext;
+
+/**
+ * Measures the creation of bindings using the builder API, including the
+ * resolution of the converters.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindingCreationBenchmark {
+
+    @Benchmark
+    public BindingContext createBindings() {
+
+        BenchmarkModel model = new BenchmarkModel();
+        BindingContext context = new BindingContext();
+
+        context.bind( model.nameProperty() ).to( new SimpleStringProperty() );
+        context.bind( model.ageProperty() ).to( new SimpleStringProperty() );
+
+        return context;
+    }
+
+}
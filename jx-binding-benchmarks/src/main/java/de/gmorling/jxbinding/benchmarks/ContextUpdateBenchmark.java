@@ -0,0 +1,112 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gmorling.jxbinding.Binding;
+import de.gmorling.jxbinding.BindingContext;
+import de.gmorling.jxbinding.UpdatePolicy;
+
+/**
+ * Measures {@link BindingContext#updateModels()} and
+ * {@link BindingContext#updateTargets()} for contexts of different sizes. If
+ * redundant updates are skipped, the benchmarks measure the overhead of
+ * detecting that nothing needs to be done, otherwise they measure complete
+ * conversions and validations.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContextUpdateBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    private int bindingCount;
+
+    @Param({ "true", "false" })
+    private boolean skipRedundantUpdates;
+
+    private BindingContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        context = new BindingContext();
+        List<Binding<?, ?>> bindings = new ArrayList<Binding<?, ?>>( bindingCount );
+
+        for ( int i = 0; i < bindingCount / 2; i++ ) {
+            BenchmarkModel model = new BenchmarkModel();
+            StringProperty name = new SimpleStringProperty( "Name " + i );
+            StringProperty age = new SimpleStringProperty( String.valueOf( i ) );
+
+            bindings.add( context.bind( model.nameProperty() )
+                    .withModelUpdatePolicy( UpdatePolicy.ON_REQUEST )
+                    .withTargetUpdatePolicy( UpdatePolicy.ON_REQUEST )
+                    .to( name ) );
+            bindings.add( context.bind( model.ageProperty() )
+                    .withModelUpdatePolicy( UpdatePolicy.ON_REQUEST )
+                    .withTargetUpdatePolicy( UpdatePolicy.ON_REQUEST )
+                    .to( age ) );
+        }
+
+        for ( Binding<?, ?> binding : bindings ) {
+            binding.setSkipRedundantUpdates( skipRedundantUpdates );
+        }
+
+        context.updateModels();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void updateModels() {
+        context.updateModels();
+    }
+
+    @Benchmark
+    public void updateTargets() {
+        context.updateTargets();
+    }
+
+}
@@ -0,0 +1,123 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gmorling.jxbinding.BindingViolation;
+import de.gmorling.jxbinding.converter.DoubleTextConverter;
+import de.gmorling.jxbinding.converter.IntTextConverter;
+import de.gmorling.jxbinding.converter.LongTextConverter;
+import de.gmorling.jxbinding.converter.StringBindingViolationListConverter;
+import de.gmorling.jxbinding.converter.StringDateConverter;
+import de.gmorling.jxbinding.converter.StringToIntConverter;
+
+/**
+ * Measures the conversions of the built-in converters in both directions.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    private final StringDateConverter dateConverter = StringDateConverter.isoInstant();
+
+    private final Date date = new Date( 1318000000000L );
+
+    private final String dateText = dateConverter.toTarget( date );
+
+    private final StringBindingViolationListConverter violationListConverter = new StringBindingViolationListConverter();
+
+    @Benchmark
+    public Number intTextToModel() {
+        return IntTextConverter.INSTANCE.toModel( "4711" );
+    }
+
+    @Benchmark
+    public String intTextToTarget() {
+        return IntTextConverter.INSTANCE.toTarget( 4711 );
+    }
+
+    @Benchmark
+    public Number longTextToModel() {
+        return LongTextConverter.INSTANCE.toModel( "4711471147" );
+    }
+
+    @Benchmark
+    public String longTextToTarget() {
+        return LongTextConverter.INSTANCE.toTarget( 4711471147L );
+    }
+
+    @Benchmark
+    public Number doubleTextToModel() {
+        return DoubleTextConverter.INSTANCE.toModel( "47.11" );
+    }
+
+    @Benchmark
+    public String doubleTextToTarget() {
+        return DoubleTextConverter.INSTANCE.toTarget( 47.11 );
+    }
+
+    @Benchmark
+    public Number stringToIntToModel() {
+        return StringToIntConverter.INSTANCE.toModel( "4711" );
+    }
+
+    @Benchmark
+    public Date dateToModel() {
+        return dateConverter.toModel( dateText );
+    }
+
+    @Benchmark
+    public String dateToTarget() {
+        return dateConverter.toTarget( date );
+    }
+
+    /**
+     * Renders a new list upon each invocation, as the converter memoizes the
+     * rendering of the last list.
+     */
+    @Benchmark
+    public String violationListToTarget() {
+
+        List<BindingViolation> violations = new ArrayList<BindingViolation>( 3 );
+        violations.add( new BindingViolation( "Name", "size must be between 3 and 50", "name", "Size", "Bo" ) );
+        violations.add( new BindingViolation( "Age", "must be greater than or equal to 0", "age", "Min", -1 ) );
+        violations.add( new BindingViolation( "Birthday", "may not be null", "birthday", "NotNull", null ) );
+
+        return violationListConverter.toTarget( violations );
+    }
+
+}
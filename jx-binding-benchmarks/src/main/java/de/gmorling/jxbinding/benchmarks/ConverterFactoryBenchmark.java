@@ -0,0 +1,65 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gmorling.jxbinding.converter.Converter;
+import de.gmorling.jxbinding.converter.ConverterFactory;
+
+/**
+ * Measures the look-up of converters by the value types of the bound
+ * properties.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterFactoryBenchmark {
+
+    private final BenchmarkModel model = new BenchmarkModel();
+
+    private final StringProperty target = new SimpleStringProperty();
+
+    @Benchmark
+    public Converter<String, String> getStringConverter() {
+        return ConverterFactory.getConverter( model.nameProperty(), target );
+    }
+
+    @Benchmark
+    public Converter<Number, String> getIntegerConverter() {
+        return ConverterFactory.getConverter( model.ageProperty(), target );
+    }
+
+}
@@ -0,0 +1,93 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gmorling.jxbinding.BindingContext;
+
+/**
+ * Measures the aggregation of the violations of a context when the validity of
+ * a single binding changes, while the other bindings have violations as well.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ViolationAggregationBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    private int bindingCount;
+
+    private BindingContext context;
+
+    private StringProperty editedName;
+
+    private boolean valid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        context = new BindingContext();
+
+        for ( int i = 0; i < bindingCount; i++ ) {
+            StringProperty name = new SimpleStringProperty();
+            context.bind( new BenchmarkModel().nameProperty() ).to( name );
+
+            // every other binding is invalid
+            name.setValue( i % 2 == 0 ? "Name " + i : "N" );
+
+            editedName = name;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean toggleValidity() {
+
+        valid = !valid;
+        editedName.setValue( valid ? "Valid name" : "N" );
+
+        return context.isValidProperty().get();
+    }
+
+}
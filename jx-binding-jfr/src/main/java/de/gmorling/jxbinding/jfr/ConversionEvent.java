@@ -0,0 +1,50 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A value has been converted by a binding. The duration of the event is the
+ * duration of the conversion.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+@Name("de.gmorling.jxbinding.Conversion")
+@Label("Conversion")
+@Description("A value has been converted by a binding.")
+@Category("jx-binding")
+class ConversionEvent extends BindingEvent {
+
+    @Label("Direction")
+    String direction;
+
+    @Label("Failed")
+    boolean failed;
+
+    @Label("Value")
+    @Description("The value which could not be converted; only set for failed conversions")
+    String value;
+
+    @Label("Message")
+    @Description("The reason of a failed conversion")
+    String message;
+
+}
@@ -0,0 +1,187 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.jfr;
+
+import java.util.List;
+
+import javafx.beans.property.ReadOnlyProperty;
+
+import jdk.jfr.EventType;
+
+import de.gmorling.jxbinding.Binding;
+import de.gmorling.jxbinding.BindingViolation;
+import de.gmorling.jxbinding.converter.ConversionException;
+import de.gmorling.jxbinding.event.BindingEventListener;
+
+/**
+ * A {@link BindingEventListener} which emits JDK Flight Recorder events for
+ * the operations of bindings, allowing to analyze them in JDK Mission Control.
+ * Conversion and validation events span the respective operation, so their
+ * duration is the latency of that operation. Events are only created if they
+ * are enabled in a running recording:
+ * 
+ * <pre>
+ * context.addBindingEventListener( new JfrBindingEventListener() );
+ * </pre>
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class JfrBindingEventListener implements BindingEventListener {
+
+    private final static EventType CONVERSION = EventType.getEventType( ConversionEvent.class );
+
+    private final static EventType VALIDATION_RAN = EventType.getEventType( ValidationRanEvent.class );
+
+    private final static EventType MODEL_WRITTEN = EventType.getEventType( ModelWrittenEvent.class );
+
+    private final static EventType TARGET_WRITTEN = EventType.getEventType( TargetWrittenEvent.class );
+
+    /**
+     * The events of the operations currently running on a thread; start and
+     * end of an operation are always reported on the same thread.
+     */
+    private final ThreadLocal<RunningEvents> runningEvents = new ThreadLocal<RunningEvents>() {
+
+        @Override
+        protected RunningEvents initialValue() {
+            return new RunningEvents();
+        }
+    };
+
+    @Override
+    public void conversionStarted(Binding<?, ?> binding, ConversionDirection direction) {
+
+        RunningEvents events = runningEvents.get();
+
+        if ( CONVERSION.isEnabled() ) {
+            events.conversion = new ConversionEvent();
+            events.conversion.begin();
+        }
+        else {
+            events.conversion = null;
+        }
+    }
+
+    @Override
+    public void conversionFailed(Binding<?, ?> binding, ConversionDirection direction, Object value,
+            ConversionException exception) {
+
+        ConversionEvent event = runningEvents.get().conversion;
+
+        if ( event != null ) {
+            event.failed = true;
+            event.value = String.valueOf( value );
+            event.message = exception.getBindingViolation() != null ? exception.getBindingViolation().getMessage()
+                    : exception.getMessage();
+        }
+    }
+
+    @Override
+    public void conversionFinished(Binding<?, ?> binding, ConversionDirection direction) {
+
+        RunningEvents events = runningEvents.get();
+        ConversionEvent event = events.conversion;
+
+        if ( event == null ) {
+            return;
+        }
+
+        events.conversion = null;
+        event.end();
+
+        if ( event.shouldCommit() ) {
+            populate( event, binding );
+            event.direction = direction.name();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void validationStarted(Binding<?, ?> binding) {
+
+        RunningEvents events = runningEvents.get();
+
+        if ( VALIDATION_RAN.isEnabled() ) {
+            events.validation = new ValidationRanEvent();
+            events.validation.begin();
+        }
+        else {
+            events.validation = null;
+        }
+    }
+
+    @Override
+    public void validationRan(Binding<?, ?> binding, Object value, List<BindingViolation> violations) {
+
+        RunningEvents events = runningEvents.get();
+        ValidationRanEvent event = events.validation;
+
+        if ( event == null ) {
+            return;
+        }
+
+        events.validation = null;
+        event.end();
+
+        if ( event.shouldCommit() ) {
+            populate( event, binding );
+            event.value = String.valueOf( value );
+            event.violationCount = violations != null ? violations.size() : -1;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void modelWritten(Binding<?, ?> binding, Object value) {
+
+        if ( MODEL_WRITTEN.isEnabled() ) {
+            ModelWrittenEvent event = new ModelWrittenEvent();
+            populate( event, binding );
+            event.value = String.valueOf( value );
+            event.commit();
+        }
+    }
+
+    @Override
+    public void targetWritten(Binding<?, ?> binding, Object value) {
+
+        if ( TARGET_WRITTEN.isEnabled() ) {
+            TargetWrittenEvent event = new TargetWrittenEvent();
+            populate( event, binding );
+            event.value = String.valueOf( value );
+            event.commit();
+        }
+    }
+
+    private void populate(BindingEvent event, Binding<?, ?> binding) {
+
+        ReadOnlyProperty<?> modelProperty = binding.modelProperty();
+        Object bean = modelProperty.getBean();
+
+        event.modelProperty = bean != null ? bean.getClass().getSimpleName() + "." + modelProperty.getName()
+                : modelProperty.getName();
+        event.group = binding.getGroup();
+    }
+
+    private static class RunningEvents {
+
+        private ConversionEvent conversion;
+
+        private ValidationRanEvent validation;
+    }
+
+}
@@ -0,0 +1,38 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A value has been written to the target property of a binding.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+@Name("de.gmorling.jxbinding.TargetWritten")
+@Label("Target Written")
+@Description("A value has been written to the target property of a binding.")
+@Category("jx-binding")
+class TargetWrittenEvent extends BindingEvent {
+
+    @Label("Value")
+    String value;
+
+}
@@ -0,0 +1,43 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A converted target value has been validated by a binding. The duration of
+ * the event is the duration of the validation.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+@Name("de.gmorling.jxbinding.ValidationRan")
+@Label("Validation Ran")
+@Description("A converted target value has been validated by a binding.")
+@Category("jx-binding")
+class ValidationRanEvent extends BindingEvent {
+
+    @Label("Value")
+    String value;
+
+    @Label("Violation Count")
+    @Description("The number of violations or -1 if the value could not be validated")
+    int violationCount;
+
+}
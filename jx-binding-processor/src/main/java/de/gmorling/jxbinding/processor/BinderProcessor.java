@@ -0,0 +1,525 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+import de.gmorling.jxbinding.annotation.BindTo;
+
+/**
+ * Generates binder classes for model beans annotated with
+ * {@link de.gmorling.jxbinding.annotation.Bindable} and form controllers
+ * annotated with {@link de.gmorling.jxbinding.annotation.BindingForm}. The
+ * generated code invokes the property accessors directly and uses converters
+ * resolved at compile time where possible, so no reflection is required at
+ * runtime.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+@SupportedAnnotationTypes({ BinderProcessor.BINDABLE, BinderProcessor.BINDING_FORM })
+public class BinderProcessor extends AbstractProcessor {
+
+    /* package private */final static String BINDABLE = "de.gmorling.jxbinding.annotation.Bindable";
+
+    /* package private */final static String BINDING_FORM = "de.gmorling.jxbinding.annotation.BindingForm";
+
+    private final static String ACCESSOR_SUFFIX = "Property";
+
+    /**
+     * Converters to text known at compile time, by concrete value type.
+     */
+    private final static Map<String, String> TEXT_CONVERTERS = new HashMap<String, String>();
+
+    static {
+        TEXT_CONVERTERS.put( "java.lang.String", "de.gmorling.jxbinding.converter.NoOpConverter.<java.lang.String> getInstance()" );
+        TEXT_CONVERTERS.put( "java.lang.Integer", "de.gmorling.jxbinding.converter.IntTextConverter.INSTANCE" );
+        TEXT_CONVERTERS.put( "java.lang.Long", "de.gmorling.jxbinding.converter.LongTextConverter.INSTANCE" );
+        TEXT_CONVERTERS.put( "java.lang.Double", "de.gmorling.jxbinding.converter.DoubleTextConverter.INSTANCE" );
+    }
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init( processingEnv );
+
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        TypeElement bindable = elements.getTypeElement( BINDABLE );
+        TypeElement bindingForm = elements.getTypeElement( BINDING_FORM );
+
+        for ( TypeElement modelType : ElementFilter.typesIn( roundEnv.getElementsAnnotatedWith( bindable ) ) ) {
+            if ( isTopLevelType( modelType ) ) {
+                generateModelBinder( modelType );
+            }
+        }
+
+        for ( TypeElement formType : ElementFilter.typesIn( roundEnv.getElementsAnnotatedWith( bindingForm ) ) ) {
+            if ( isTopLevelType( formType ) ) {
+                generateFormBinder( formType );
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isTopLevelType(TypeElement type) {
+
+        if ( type.getNestingKind() != NestingKind.TOP_LEVEL ) {
+            messager.printMessage( Kind.ERROR, "Binders can only be generated for top-level types.", type );
+            return false;
+        }
+
+        return true;
+    }
+
+    private void generateModelBinder(TypeElement modelType) {
+
+        String packageName = elements.getPackageOf( modelType ).getQualifiedName().toString();
+        String binderName = modelType.getSimpleName() + "Binder";
+        String modelTypeName = modelType.getQualifiedName().toString();
+
+        PrintWriter out = createSourceFile( packageName, binderName, modelType );
+
+        if ( out == null ) {
+            return;
+        }
+
+        writeHeader( out, packageName );
+        out.println( "/**" );
+        out.println( " * Binds the properties of {@link " + modelTypeName + "}. Generated by the jx-binding" );
+        out.println( " * annotation processor, do not edit." );
+        out.println( " */" );
+        out.println( "public final class " + binderName + " {" );
+        out.println();
+        out.println( "    private " + binderName + "() {" );
+        out.println( "    }" );
+
+        for ( BeanProperty property : getProperties( modelType ) ) {
+            writeBindMethods( out, modelTypeName, property );
+        }
+
+        out.println( "}" );
+        out.close();
+    }
+
+    private void writeBindMethods(PrintWriter out, String modelTypeName, BeanProperty property) {
+
+        String methodName = "bind" + Character.toUpperCase( property.name.charAt( 0 ) ) + property.name.substring( 1 );
+        String m = property.valueType.toString();
+        String policyParameter = property.writable ? ", UpdatePolicy modelUpdatePolicy" : "";
+        String policyCall = property.writable ? ".withModelUpdatePolicy( modelUpdatePolicy )" : "";
+        String textConverter = TEXT_CONVERTERS.get( property.concreteValueType );
+
+        // to text, using the converter resolved at compile time or a registry
+        // look-up by type
+        out.println();
+        out.println( "    public static Binding<" + m + ", String> " + methodName + "(BindingContext context, "
+                + modelTypeName + " bean, Property<String> target" + policyParameter + ") {" );
+
+        if ( textConverter != null ) {
+            out.println( "        Converter<" + m + ", String> converter = " + textConverter + ";" );
+        }
+        else {
+            out.println( "        @SuppressWarnings(\"unchecked\")" );
+            out.println( "        Converter<" + m + ", String> converter = (Converter<" + m
+                    + ", String>) ConverterFactory.getRegistry().getConverter( " + property.concreteValueType
+                    + ".class, String.class );" );
+            out.println( "        if ( converter == null ) {" );
+            out.println( "            throw new IllegalArgumentException( \"No converter registered for type "
+                    + property.concreteValueType + " and String.\" );" );
+            out.println( "        }" );
+        }
+
+        out.println( "        return context.bind( bean." + property.accessor + "() ).withConverter( converter )"
+                + policyCall + ".to( target );" );
+        out.println( "    }" );
+
+        // to any target type with a given converter
+        out.println();
+        out.println( "    public static <T> Binding<" + m + ", T> " + methodName + "(BindingContext context, "
+                + modelTypeName + " bean, Property<T> target, Converter<" + m + ", T> converter" + policyParameter
+                + ") {" );
+        out.println( "        return context.bind( bean." + property.accessor + "() ).withConverter( converter )"
+                + policyCall + ".to( target );" );
+        out.println( "    }" );
+    }
+
+    private void generateFormBinder(TypeElement formType) {
+
+        TypeElement modelType = getModelType( formType );
+
+        if ( modelType == null ) {
+            return;
+        }
+
+        if ( getAnnotationMirror( modelType, BINDABLE ) == null ) {
+            messager.printMessage( Kind.ERROR, "The model type " + modelType + " must be annotated with @Bindable.",
+                    formType );
+            return;
+        }
+
+        Map<String, BeanProperty> modelProperties = new HashMap<String, BeanProperty>();
+        for ( BeanProperty property : getProperties( modelType ) ) {
+            modelProperties.put( property.name, property );
+        }
+
+        List<String> statements = new ArrayList<String>();
+        boolean valid = true;
+
+        for ( VariableElement field : ElementFilter.fieldsIn( formType.getEnclosedElements() ) ) {
+
+            BindTo bindTo = field.getAnnotation( BindTo.class );
+
+            if ( bindTo != null ) {
+                String statement = getBindStatement( field, bindTo, modelType, modelProperties );
+                valid &= statement != null;
+                statements.add( statement );
+            }
+        }
+
+        if ( !valid ) {
+            return;
+        }
+
+        String packageName = elements.getPackageOf( formType ).getQualifiedName().toString();
+        String binderName = formType.getSimpleName() + "Binder";
+        String modelBinderName = elements.getPackageOf( modelType ).getQualifiedName() + "."
+                + modelType.getSimpleName() + "Binder";
+
+        PrintWriter out = createSourceFile( packageName, binderName, formType );
+
+        if ( out == null ) {
+            return;
+        }
+
+        writeHeader( out, packageName );
+        out.println( "/**" );
+        out.println( " * Binds the controls of {@link " + formType.getQualifiedName() + "}. Generated by the" );
+        out.println( " * jx-binding annotation processor, do not edit." );
+        out.println( " */" );
+        out.println( "public final class " + binderName + " {" );
+        out.println();
+        out.println( "    private " + binderName + "() {" );
+        out.println( "    }" );
+        out.println();
+        out.println( "    /**" );
+        out.println( "     * Binds the annotated controls of the given form to the given model." );
+        out.println( "     * " );
+        out.println( "     * @return The created bindings, keyed by model property name." );
+        out.println( "     */" );
+        out.println( "    public static java.util.Map<String, Binding<?, ?>> bind(BindingContext context, "
+                + formType.getQualifiedName() + " form, " + modelType.getQualifiedName()
+                + " model, UpdatePolicy modelUpdatePolicy) {" );
+        out.println( "        java.util.Map<String, Binding<?, ?>> bindings = new java.util.LinkedHashMap<String, Binding<?, ?>>();" );
+
+        for ( String statement : statements ) {
+            out.println( "        " + statement.replace( "$ModelBinder", modelBinderName ) );
+        }
+
+        out.println( "        return bindings;" );
+        out.println( "    }" );
+        out.println( "}" );
+        out.close();
+    }
+
+    /**
+     * Returns the statement binding the given field or <code>null</code> if it
+     * can't be bound.
+     */
+    private String getBindStatement(VariableElement field, BindTo bindTo, TypeElement modelType,
+            Map<String, BeanProperty> modelProperties) {
+
+        if ( field.getModifiers().contains( Modifier.PRIVATE ) ) {
+            messager.printMessage( Kind.ERROR, "Fields annotated with @BindTo must not be private.", field );
+            return null;
+        }
+
+        BeanProperty modelProperty = modelProperties.get( bindTo.value() );
+
+        if ( modelProperty == null ) {
+            messager.printMessage( Kind.ERROR, "Type " + modelType + " has no property accessor " + bindTo.value()
+                    + ACCESSOR_SUFFIX + "().", field );
+            return null;
+        }
+
+        TypeMirror targetPropertyType = getAccessorReturnType( field.asType(), bindTo.targetProperty()
+                + ACCESSOR_SUFFIX );
+        TypeElement propertyType = elements.getTypeElement( "javafx.beans.property.Property" );
+
+        if ( targetPropertyType == null
+                || !types.isAssignable( targetPropertyType, types.erasure( propertyType.asType() ) ) ) {
+            messager.printMessage( Kind.ERROR, "Type " + field.asType() + " has no writable property accessor "
+                    + bindTo.targetProperty() + ACCESSOR_SUFFIX + "().", field );
+            return null;
+        }
+
+        TypeMirror targetValueType = getTypeArgument( targetPropertyType, propertyType );
+        String methodName = "bind" + Character.toUpperCase( modelProperty.name.charAt( 0 ) )
+                + modelProperty.name.substring( 1 );
+        String target = "form." + field.getSimpleName() + "." + bindTo.targetProperty() + ACCESSOR_SUFFIX + "()";
+        String policy = modelProperty.writable ? ", modelUpdatePolicy" : "";
+
+        String call;
+
+        if ( targetValueType != null && "java.lang.String".equals( targetValueType.toString() ) ) {
+            call = "$ModelBinder." + methodName + "( context, model, " + target + policy + " )";
+        }
+        else if ( targetValueType != null && types.isSameType( targetValueType, modelProperty.valueType ) ) {
+            call = "$ModelBinder." + methodName + "( context, model, " + target
+                    + ", de.gmorling.jxbinding.converter.NoOpConverter.<" + modelProperty.valueType
+                    + "> getInstance()" + policy + " )";
+        }
+        else {
+            messager.printMessage( Kind.ERROR, "No converter known for binding model property " + modelProperty.name
+                    + " of type " + modelProperty.valueType + " to a target of type " + targetValueType
+                    + "; bind it manually instead.", field );
+            return null;
+        }
+
+        return "bindings.put( \"" + modelProperty.name + "\", " + call + " );";
+    }
+
+    private TypeElement getModelType(TypeElement formType) {
+
+        AnnotationMirror bindingForm = getAnnotationMirror( formType, BINDING_FORM );
+
+        for ( Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : bindingForm
+                .getElementValues().entrySet() ) {
+
+            if ( entry.getKey().getSimpleName().contentEquals( "model" ) ) {
+                TypeMirror modelType = (TypeMirror) entry.getValue().getValue();
+                return (TypeElement) types.asElement( modelType );
+            }
+        }
+
+        messager.printMessage( Kind.ERROR, "No model type given.", formType );
+        return null;
+    }
+
+    private AnnotationMirror getAnnotationMirror(Element element, String annotationName) {
+
+        for ( AnnotationMirror annotation : element.getAnnotationMirrors() ) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if ( annotationType.getQualifiedName().contentEquals( annotationName ) ) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the public <code>xxxProperty()</code> accessors of the given
+     * type.
+     */
+    private List<BeanProperty> getProperties(TypeElement type) {
+
+        TypeElement readOnlyProperty = elements.getTypeElement( "javafx.beans.property.ReadOnlyProperty" );
+        TypeElement property = elements.getTypeElement( "javafx.beans.property.Property" );
+        List<BeanProperty> properties = new ArrayList<BeanProperty>();
+
+        for ( ExecutableElement method : ElementFilter.methodsIn( elements.getAllMembers( type ) ) ) {
+
+            String methodName = method.getSimpleName().toString();
+            TypeMirror returnType = method.getReturnType();
+
+            if ( !methodName.endsWith( ACCESSOR_SUFFIX ) || methodName.length() == ACCESSOR_SUFFIX.length()
+                    || !method.getParameters().isEmpty() || !method.getModifiers().contains( Modifier.PUBLIC )
+                    || method.getModifiers().contains( Modifier.STATIC ) || returnType.getKind() != TypeKind.DECLARED
+                    || !types.isAssignable( returnType, types.erasure( readOnlyProperty.asType() ) ) ) {
+                continue;
+            }
+
+            BeanProperty beanProperty = new BeanProperty();
+            beanProperty.name = methodName.substring( 0, methodName.length() - ACCESSOR_SUFFIX.length() );
+            beanProperty.accessor = methodName;
+            beanProperty.valueType = getTypeArgument( returnType, readOnlyProperty );
+            beanProperty.concreteValueType = types.erasure( getAccessorReturnType( returnType, "getValue" ) )
+                    .toString();
+            beanProperty.writable = types.isAssignable( returnType, types.erasure( property.asType() ) );
+
+            if ( beanProperty.valueType == null ) {
+                messager.printMessage( Kind.WARNING, "Skipping raw property accessor " + methodName + "().", method );
+                continue;
+            }
+
+            properties.add( beanProperty );
+        }
+
+        return properties;
+    }
+
+    /**
+     * Returns the type argument of the given generic type in the given type's
+     * hierarchy, e.g. <code>Number</code> for <code>IntegerProperty</code> and
+     * <code>ReadOnlyProperty</code>.
+     */
+    private TypeMirror getTypeArgument(TypeMirror type, TypeElement genericType) {
+
+        if ( type.getKind() != TypeKind.DECLARED ) {
+            return null;
+        }
+
+        if ( types.isSameType( types.erasure( type ), types.erasure( genericType.asType() ) ) ) {
+            List<? extends TypeMirror> typeArguments = ( (DeclaredType) type ).getTypeArguments();
+            return typeArguments.isEmpty() ? null : typeArguments.get( 0 );
+        }
+
+        for ( TypeMirror superType : types.directSupertypes( type ) ) {
+            TypeMirror typeArgument = getTypeArgument( superType, genericType );
+            if ( typeArgument != null ) {
+                return typeArgument;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the return type of the parameterless method with the given name
+     * as member of the given type or <code>null</code> if there is no such
+     * method. If the method is declared several times within the type's
+     * hierarchy, the most specific return type is returned, e.g.
+     * <code>Integer</code> for <code>IntegerProperty#getValue()</code>.
+     */
+    private TypeMirror getAccessorReturnType(TypeMirror type, String methodName) {
+
+        if ( type.getKind() != TypeKind.DECLARED ) {
+            return null;
+        }
+
+        TypeElement typeElement = (TypeElement) types.asElement( type );
+        TypeMirror returnType = null;
+
+        for ( ExecutableElement method : ElementFilter.methodsIn( elements.getAllMembers( typeElement ) ) ) {
+            if ( method.getSimpleName().contentEquals( methodName ) && method.getParameters().isEmpty()
+                    && method.getKind() == ElementKind.METHOD ) {
+
+                TypeMirror candidate = ( (ExecutableType) types.asMemberOf( (DeclaredType) type, method ) )
+                        .getReturnType();
+
+                if ( returnType == null || types.isSubtype( candidate, returnType ) ) {
+                    returnType = candidate;
+                }
+            }
+        }
+
+        return returnType;
+    }
+
+    private PrintWriter createSourceFile(String packageName, String simpleName, TypeElement originatingElement) {
+
+        String name = packageName.length() == 0 ? simpleName : packageName + "." + simpleName;
+
+        try {
+            return new PrintWriter( processingEnv.getFiler().createSourceFile( name, originatingElement )
+                    .openWriter() );
+        }
+        catch ( IOException e ) {
+            messager.printMessage( Kind.ERROR, "Couldn't create binder " + name + ": " + e.getMessage(),
+                    originatingElement );
+            return null;
+        }
+    }
+
+    private void writeHeader(PrintWriter out, String packageName) {
+
+        if ( packageName.length() > 0 ) {
+            out.println( "package " + packageName + ";" );
+            out.println();
+        }
+
+        out.println( "import javafx.beans.property.Property;" );
+        out.println();
+        out.println( "import de.gmorling.jxbinding.Binding;" );
+        out.println( "import de.gmorling.jxbinding.BindingContext;" );
+        out.println( "import de.gmorling.jxbinding.UpdatePolicy;" );
+        out.println( "import de.gmorling.jxbinding.converter.Converter;" );
+        out.println( "import de.gmorling.jxbinding.converter.ConverterFactory;" );
+        out.println();
+    }
+
+    /**
+     * A JavaFX property of a bean type.
+     */
+    private static class BeanProperty {
+
+        private String name;
+
+        private String accessor;
+
+        /**
+         * The type argument of the property, e.g. <code>Number</code> for an
+         * <code>IntegerProperty</code>.
+         */
+        private TypeMirror valueType;
+
+        /**
+         * The erased type returned by the property's <code>getValue()</code>
+         * method, e.g. <code>Integer</code> for an
+         * <code>IntegerProperty</code>.
+         */
+        private String concreteValueType;
+
+        private boolean writable;
+    }
+
+}
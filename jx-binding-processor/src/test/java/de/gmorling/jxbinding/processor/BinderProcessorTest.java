@@ -0,0 +1,233 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.processor;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.StringProperty;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.gmorling.jxbinding.Binding;
+import de.gmorling.jxbinding.BindingContext;
+import de.gmorling.jxbinding.UpdatePolicy;
+
+public class BinderProcessorTest {
+
+	private final static String MODEL =
+		"package sample;\n" +
+		"import javafx.beans.property.*;\n" +
+		"@de.gmorling.jxbinding.annotation.Bindable\n" +
+		"public class Customer {\n" +
+		"	private final StringProperty name = new SimpleStringProperty(this, \"name\");\n" +
+		"	private final IntegerProperty age = new SimpleIntegerProperty(this, \"age\");\n" +
+		"	private final ReadOnlyStringWrapper id = new ReadOnlyStringWrapper(this, \"id\", \"42\");\n" +
+		"	public String getName() { return name.get(); }\n" +
+		"	public StringProperty nameProperty() { return name; }\n" +
+		"	public int getAge() { return age.get(); }\n" +
+		"	public IntegerProperty ageProperty() { return age; }\n" +
+		"	public ReadOnlyStringProperty idProperty() { return id.getReadOnlyProperty(); }\n" +
+		"}\n";
+
+	private final static String FIELD =
+		"package sample;\n" +
+		"import javafx.beans.property.*;\n" +
+		"public class Field {\n" +
+		"	private final StringProperty text = new SimpleStringProperty();\n" +
+		"	private final IntegerProperty number = new SimpleIntegerProperty();\n" +
+		"	public StringProperty textProperty() { return text; }\n" +
+		"	public IntegerProperty numberProperty() { return number; }\n" +
+		"}\n";
+
+	private final static String FORM =
+		"package sample;\n" +
+		"import de.gmorling.jxbinding.annotation.*;\n" +
+		"@BindingForm(model = Customer.class)\n" +
+		"public class CustomerForm {\n" +
+		"	@BindTo(\"name\") Field fldName = new Field();\n" +
+		"	@BindTo(value = \"age\", targetProperty = \"number\") Field fldAge = new Field();\n" +
+		"	@BindTo(\"id\") Field fldId = new Field();\n" +
+		"}\n";
+
+	private File sourceDir;
+	private File classDir;
+
+	@Before
+	public void createDirectories() throws IOException {
+
+		File baseDir = File.createTempFile("binder-processor", "");
+		baseDir.delete();
+
+		sourceDir = new File(baseDir, "src/sample");
+		classDir = new File(baseDir, "classes");
+		sourceDir.mkdirs();
+		classDir.mkdirs();
+	}
+
+	@Test
+	public void testGeneratedBindersBindFormToModel() throws Exception {
+
+		//given
+		List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(MODEL, FIELD, FORM);
+		assertThat(errorsOf(diagnostics)).isEmpty();
+
+		ClassLoader classLoader = new URLClassLoader(new URL[] { classDir.toURI().toURL() }, getClass().getClassLoader());
+		Object model = classLoader.loadClass("sample.Customer").newInstance();
+		Object form = classLoader.loadClass("sample.CustomerForm").newInstance();
+		Class<?> formBinder = classLoader.loadClass("sample.CustomerFormBinder");
+		BindingContext context = new BindingContext();
+		Method bind = formBinder.getMethod("bind", BindingContext.class, form.getClass(), model.getClass(), UpdatePolicy.class);
+
+		//when
+		@SuppressWarnings("unchecked")
+		Map<String, Binding<?, ?>> bindings = (Map<String, Binding<?, ?>>) bind.invoke(null, context, form, model, UpdatePolicy.INSTANTLY);
+
+		context.updateTargets();
+		textOf(form, "fldName").setValue("Bob");
+		numberOf(form, "fldAge").setValue(37);
+
+		//then
+		assertThat(new ArrayList<String>(bindings.keySet())).isEqualTo(Arrays.asList("name", "age", "id"));
+		assertThat(model.getClass().getMethod("getName").invoke(model)).isEqualTo("Bob");
+		assertThat(model.getClass().getMethod("getAge").invoke(model)).isEqualTo(37);
+		assertThat(textOf(form, "fldId").getValue()).isEqualTo("42");
+	}
+
+	@Test
+	public void testModelBinderUsesPreResolvedConverter() throws Exception {
+
+		//when
+		compile(MODEL);
+
+		//then
+		String binder = read(new File(sourceDir.getParentFile(), "generated/sample/CustomerBinder.java"));
+		assertThat(binder).contains("IntTextConverter.INSTANCE");
+		assertThat(binder).excludes("getRegistry");
+		assertThat(binder).contains("bindId(BindingContext context, sample.Customer bean, Property<String> target)");
+	}
+
+	@Test
+	public void testPrivateFieldIsReported() throws Exception {
+
+		//when
+		List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(MODEL, FIELD, FORM.replace("@BindTo(\"name\") Field", "@BindTo(\"name\") private Field"));
+
+		//then
+		assertThat(errorsOf(diagnostics)).containsOnly("Fields annotated with @BindTo must not be private.");
+	}
+
+	@Test
+	public void testUnknownModelPropertyIsReported() throws Exception {
+
+		//when
+		List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(MODEL, FIELD, FORM.replace("@BindTo(\"name\")", "@BindTo(\"nickName\")"));
+
+		//then
+		assertThat(errorsOf(diagnostics)).containsOnly("Type sample.Customer has no property accessor nickNameProperty().");
+	}
+
+	private List<Diagnostic<? extends JavaFileObject>> compile(String... sources) throws IOException {
+
+		List<File> files = new ArrayList<File>();
+		for (String source : sources) {
+			String simpleName = source.replaceAll("(?s).*public class (\\w+).*", "$1");
+			File file = new File(sourceDir, simpleName + ".java");
+			write(file, source);
+			files.add(file);
+		}
+
+		File generatedDir = new File(sourceDir.getParentFile(), "generated");
+		generatedDir.mkdirs();
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+
+		List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", classDir.getPath(), "-s", generatedDir.getPath(), "-processor", BinderProcessor.class.getName());
+		compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjectsFromFiles(files)).call();
+		fileManager.close();
+
+		return diagnostics.getDiagnostics();
+	}
+
+	private List<String> errorsOf(List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+		List<String> errors = new ArrayList<String>();
+		for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics) {
+			if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+				errors.add(diagnostic.getMessage(null));
+			}
+		}
+		return errors;
+	}
+
+	private StringProperty textOf(Object form, String fieldName) throws Exception {
+		Object field = fieldOf(form, fieldName);
+		return (StringProperty) field.getClass().getMethod("textProperty").invoke(field);
+	}
+
+	private IntegerProperty numberOf(Object form, String fieldName) throws Exception {
+		Object field = fieldOf(form, fieldName);
+		return (IntegerProperty) field.getClass().getMethod("numberProperty").invoke(field);
+	}
+
+	private Object fieldOf(Object form, String fieldName) throws Exception {
+		java.lang.reflect.Field field = form.getClass().getDeclaredField(fieldName);
+		field.setAccessible(true);
+		return field.get(form);
+	}
+
+	private void write(File file, String content) throws IOException {
+		Writer writer = new FileWriter(file);
+		try {
+			writer.write(content);
+		}
+		finally {
+			writer.close();
+		}
+	}
+
+	private String read(File file) throws IOException {
+		java.util.Scanner scanner = new java.util.Scanner(file, "UTF-8");
+		try {
+			return scanner.useDelimiter("\\A").next();
+		}
+		finally {
+			scanner.close();
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javafx.beans.property.ReadOnlyProperty;
+
+import de.gmorling.jxbinding.converter.Converter;
+import de.gmorling.jxbinding.converter.ConverterFactory;
+
+/**
+ * The JavaFX property accessors (<code>xxxProperty()</code> methods) of a bean
+ * type. The accessors of a type are discovered only once; the converters
+ * resolved for its properties are cached as well. The cache doesn't prevent
+ * bean types and their class loaders from being unloaded: types are
+ * referenced weakly, and as the accessors of a type reference the type
+ * themselves, they are referenced softly.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+/* package private */class BeanPropertyAccessors {
+
+    private final static String ACCESSOR_SUFFIX = "Property";
+
+    private final static Map<Class<?>, SoftReference<BeanPropertyAccessors>> ACCESSORS_BY_TYPE = new WeakHashMap<Class<?>, SoftReference<BeanPropertyAccessors>>();
+
+    private final Class<?> beanClass;
+
+    private final Map<String, Method> accessors;
+
+    /**
+     * Converters by property name and target property type.
+     */
+    private final ConcurrentMap<String, Map<Class<?>, Converter<?, ?>>> converters = new ConcurrentHashMap<String, Map<Class<?>, Converter<?, ?>>>();
+
+    private BeanPropertyAccessors(Class<?> beanClass) {
+        this.beanClass = beanClass;
+        this.accessors = discoverAccessors( beanClass );
+    }
+
+    public static BeanPropertyAccessors forType(Class<?> beanClass) {
+
+        synchronized ( ACCESSORS_BY_TYPE ) {
+
+            SoftReference<BeanPropertyAccessors> reference = ACCESSORS_BY_TYPE.get( beanClass );
+            BeanPropertyAccessors accessors = reference != null ? reference.get() : null;
+
+            if ( accessors == null ) {
+                accessors = new BeanPropertyAccessors( beanClass );
+                ACCESSORS_BY_TYPE.put( beanClass, new SoftReference<BeanPropertyAccessors>( accessors ) );
+            }
+
+            return accessors;
+        }
+    }
+
+    private static Map<String, Method> discoverAccessors(Class<?> beanClass) {
+
+        Map<String, Method> accessors = new HashMap<String, Method>();
+
+        for ( Method method : beanClass.getMethods() ) {
+
+            String methodName = method.getName();
+
+            if ( methodName.endsWith( ACCESSOR_SUFFIX ) && methodName.length() > ACCESSOR_SUFFIX.length()
+                    && method.getParameterTypes().length == 0 && !Modifier.isStatic( method.getModifiers() )
+                    && ReadOnlyProperty.class.isAssignableFrom( method.getReturnType() ) ) {
+
+                // public methods of non-public classes can't be invoked
+                // reflectively otherwise
+                method.setAccessible( true );
+                accessors.put( methodName.substring( 0, methodName.length() - ACCESSOR_SUFFIX.length() ), method );
+            }
+        }
+
+        return Collections.unmodifiableMap( accessors );
+    }
+
+    public ReadOnlyProperty<?> getProperty(Object bean, String propertyName) {
+
+        Method accessor = accessors.get( propertyName );
+
+        if ( accessor == null ) {
+            throw new IllegalArgumentException( "Type " + beanClass.getName() + " has no property accessor "
+                    + propertyName + ACCESSOR_SUFFIX + "(). Known properties are " + accessors.keySet() + "." );
+        }
+
+        try {
+            return (ReadOnlyProperty<?>) accessor.invoke( bean );
+        }
+        catch ( IllegalAccessException e ) {
+            throw new IllegalArgumentException( "Couldn't access property " + propertyName + " of " + bean, e );
+        }
+        catch ( InvocationTargetException e ) {
+            throw new IllegalArgumentException( "Couldn't retrieve property " + propertyName + " of " + bean,
+                    e.getCause() );
+        }
+    }
+
+    /**
+     * Returns the converter for binding the given property of this type to the
+     * given target property.
+     */
+    public Converter<?, ?> getConverter(String propertyName, ReadOnlyProperty<?> modelProperty,
+            ReadOnlyProperty<?> targetProperty) {
+
+        Map<Class<?>, Converter<?, ?>> convertersOfProperty = converters.get( propertyName );
+
+        if ( convertersOfProperty == null ) {
+            convertersOfProperty = new ConcurrentHashMap<Class<?>, Converter<?, ?>>();
+            Map<Class<?>, Converter<?, ?>> existing = converters.putIfAbsent( propertyName, convertersOfProperty );
+            if ( existing != null ) {
+                convertersOfProperty = existing;
+            }
+        }
+
+        Converter<?, ?> converter = convertersOfProperty.get( targetProperty.getClass() );
+
+        if ( converter == null ) {
+            converter = ConverterFactory.getConverter( modelProperty, targetProperty );
+            convertersOfProperty.put( targetProperty.getClass(), converter );
+        }
+
+        return converter;
+    }
+
+}
@@ -17,17 +17,27 @@ package de.gmorling.jxbinding;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.StringProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
@@ -37,6 +47,14 @@ import org.slf4j.LoggerFactory;
 
 import de.gmorling.jxbinding.converter.ConversionException;
 import de.gmorling.jxbinding.converter.Converter;
+import de.gmorling.jxbinding.event.BindingEventListener;
+import de.gmorling.jxbinding.event.BindingEventListener.ConversionDirection;
+import de.gmorling.jxbinding.metrics.BindingMetrics;
+import de.gmorling.jxbinding.metrics.BindingMetrics.Operation;
+import de.gmorling.jxbinding.validation.ConstraintMetadataCache;
+import de.gmorling.jxbinding.validation.CrossFieldConstraint;
+import de.gmorling.jxbinding.validation.ValidationPipeline;
+import de.gmorling.jxbinding.validation.ValidationResultCache;
 
 /**
  * Represents a bidirectional binding between a model property and a target
@@ -55,177 +73,633 @@ public class Binding<M, T> {
     private final ReadOnlyProperty<T> targetProperty;
     private final UpdatePolicy modelUpdatePolicy;
     private final UpdatePolicy targetUpdatePolicy;
+    private long modelUpdateDelayMillis;
+    private long targetUpdateDelayMillis;
     private final Converter<M, T> converter;
-    private final Validator validator;
+    private final PrimitiveTextConversion<M, T> primitiveConversion;
+    private final BindingContext context;
     private final String labelText;
     private final ObjectProperty<List<BindingViolation>> targetConstraintViolations;
 
+    /**
+     * The violations of the target value itself, not including violations of
+     * cross-field constraints.
+     */
+    private List<BindingViolation> propertyViolations = Collections.emptyList();
+
+    /**
+     * The violations of cross-field constraints reading the model property,
+     * by constraint; created upon the first cross-field validation.
+     */
+    private Map<CrossFieldConstraint, List<BindingViolation>> crossFieldViolations;
+    private final Listener listener = new Listener( this );
+
+    /**
+     * The listener as registered with the model and target property; a weak
+     * wrapper of {@link #listener} if the context uses weak listeners.
+     */
+    private ChangeListener<Object> registeredListener;
+
+    /**
+     * The listener as registered with the model property if the target is
+     * updated lazily.
+     */
+    private InvalidationListener registeredInvalidationListener;
+
+    private boolean disposed;
+
+    private String group;
+
+    private String id;
+
+    /**
+     * The target value as of the last synchronization between model and
+     * target.
+     */
+    private T synchronizedTargetValue;
+
+    private final BooleanProperty dirty = new SimpleBooleanProperty( false );
+
+    /**
+     * Whether the model value changed since the last synchronization.
+     */
+    private boolean modelChangedSinceSynchronization = true;
+
+    /**
+     * Whether the last synchronization was a model update (as opposed to a
+     * target update).
+     */
+    private boolean synchronizedByModelUpdate;
+
+    private boolean skipRedundantUpdates = true;
+
+    private final BooleanProperty targetStale = new SimpleBooleanProperty( false );
+
+    private ObservableValue<?> refreshTrigger;
+
+    private Object refreshTriggerValue;
+
+    /**
+     * Incremented upon each validation, allowing to discard the results of
+     * asynchronous validations superseded by a newer one. Only accessed from
+     * the FX thread.
+     */
+    private long validationGeneration;
+
+    private UpdateScheduler modelUpdateScheduler;
+    private UpdateScheduler targetUpdateScheduler;
+
     /* package private */Binding(ReadOnlyProperty<M> modelProperty, ReadOnlyProperty<T> targetProperty,
-            Converter<M, T> converter, Validator validator) {
+            Converter<M, T> converter, BindingContext context) {
 
         this.modelProperty = modelProperty;
         this.targetProperty = targetProperty;
         this.modelUpdatePolicy = UpdatePolicy.NEVER;
         this.targetUpdatePolicy = UpdatePolicy.NEVER;
         this.converter = converter;
-        this.validator = validator;
+        this.primitiveConversion = PrimitiveTextConversion.forProperties( modelProperty, targetProperty, converter );
+        this.context = context;
         this.targetConstraintViolations = new SimpleObjectProperty<List<BindingViolation>>(
                 Collections.<BindingViolation> emptyList() );
         this.labelText = null;
 
-        Listener listener = new Listener( this );
-        modelProperty.addListener( listener );
-        targetProperty.addListener( listener );
+        registerListener();
     }
 
     /* package private */Binding(ReadOnlyProperty<M> modelProperty, Property<T> targetProperty,
-            UpdatePolicy targetUpdatePolicy, Converter<M, T> converter, Validator validator) {
+            UpdatePolicy targetUpdatePolicy, Converter<M, T> converter, BindingContext context) {
 
-        this( modelProperty, targetProperty, targetUpdatePolicy, converter, validator, null );
+        this( modelProperty, targetProperty, targetUpdatePolicy, converter, context, null );
     }
 
     /* package private */Binding(ReadOnlyProperty<M> modelProperty, Property<T> targetProperty,
-            UpdatePolicy targetUpdatePolicy, Converter<M, T> converter, Validator validator, String labelText) {
+            UpdatePolicy targetUpdatePolicy, Converter<M, T> converter, BindingContext context, String labelText) {
 
         this.modelProperty = modelProperty;
         this.targetProperty = targetProperty;
         this.modelUpdatePolicy = UpdatePolicy.NEVER;
         this.targetUpdatePolicy = targetUpdatePolicy;
         this.converter = converter;
-        this.validator = validator;
+        this.primitiveConversion = PrimitiveTextConversion.forProperties( modelProperty, targetProperty, converter );
+        this.context = context;
         this.targetConstraintViolations = new SimpleObjectProperty<List<BindingViolation>>(
                 Collections.<BindingViolation> emptyList() );
         this.labelText = labelText;
 
-        Listener listener = new Listener( this );
-        modelProperty.addListener( listener );
-        targetProperty.addListener( listener );
+        registerListener();
     }
 
     /* package private */Binding(Property<M> modelProperty, ReadOnlyProperty<T> targetProperty,
-            UpdatePolicy modelUpdatePolicy, Converter<M, T> converter, Validator validator) {
+            UpdatePolicy modelUpdatePolicy, Converter<M, T> converter, BindingContext context) {
 
         this.modelProperty = modelProperty;
         this.targetProperty = targetProperty;
         this.modelUpdatePolicy = modelUpdatePolicy;
         this.targetUpdatePolicy = UpdatePolicy.NEVER;
         this.converter = converter;
-        this.validator = validator;
+        this.primitiveConversion = PrimitiveTextConversion.forProperties( modelProperty, targetProperty, converter );
+        this.context = context;
         this.targetConstraintViolations = new SimpleObjectProperty<List<BindingViolation>>(
                 Collections.<BindingViolation> emptyList() );
         this.labelText = null;
 
-        Listener listener = new Listener( this );
-        modelProperty.addListener( listener );
-        targetProperty.addListener( listener );
+        registerListener();
     }
 
     /* package private */Binding(Property<M> modelProperty, Property<T> targetProperty, UpdatePolicy modelUpdatePolicy,
-            UpdatePolicy targetUpdatePolicy, Converter<M, T> converter, Validator validator) {
-        this( modelProperty, targetProperty, modelUpdatePolicy, targetUpdatePolicy, converter, validator, null );
+            UpdatePolicy targetUpdatePolicy, Converter<M, T> converter, BindingContext context) {
+        this( modelProperty, targetProperty, modelUpdatePolicy, targetUpdatePolicy, converter, context, null );
     }
 
     /* package private */Binding(Property<M> modelProperty, Property<T> targetProperty, UpdatePolicy modelUpdatePolicy,
-            UpdatePolicy targetUpdatePolicy, Converter<M, T> converter, Validator validator, String labelText) {
+            UpdatePolicy targetUpdatePolicy, Converter<M, T> converter, BindingContext context, String labelText) {
 
         this.modelProperty = modelProperty;
         this.targetProperty = targetProperty;
         this.modelUpdatePolicy = modelUpdatePolicy;
         this.targetUpdatePolicy = targetUpdatePolicy;
         this.converter = converter;
-        this.validator = validator;
+        this.primitiveConversion = PrimitiveTextConversion.forProperties( modelProperty, targetProperty, converter );
+        this.context = context;
         this.targetConstraintViolations = new SimpleObjectProperty<List<BindingViolation>>(
                 Collections.<BindingViolation> emptyList() );
         this.labelText = labelText;
 
-        Listener listener = new Listener( this );
-        modelProperty.addListener( listener );
-        targetProperty.addListener( listener );
+        registerListener();
+    }
+
+    private void registerListener() {
+
+        synchronizedTargetValue = targetProperty.getValue();
+
+        registeredListener = context.isUsingWeakListeners() ? new WeakChangeListener<Object>( listener ) : listener;
+
+        // a lazily updated target only needs to know that the model changed,
+        // which doesn't require the new value to be computed
+        if ( targetUpdatePolicy.isLazy() ) {
+            registeredInvalidationListener = context.isUsingWeakListeners() ? new WeakInvalidationListener( listener )
+                    : listener;
+            modelProperty.addListener( registeredInvalidationListener );
+        }
+        else {
+            modelProperty.addListener( registeredListener );
+        }
+
+        targetProperty.addListener( registeredListener );
+    }
+
+    /**
+     * Disposes this binding. Its listeners are removed from the model and
+     * target property, pending updates and validations are discarded and the
+     * binding is removed from its context. Afterwards changes of the bound
+     * properties aren't propagated anymore. Calling this method more than once
+     * has no effect.
+     */
+    public void dispose() {
+
+        if ( disposed ) {
+            return;
+        }
+
+        disposed = true;
+
+        modelProperty.removeListener( registeredListener );
+        targetProperty.removeListener( registeredListener );
+
+        if ( registeredInvalidationListener != null ) {
+            modelProperty.removeListener( registeredInvalidationListener );
+        }
+
+        if ( modelUpdateScheduler != null ) {
+            modelUpdateScheduler.cancel();
+        }
+        if ( targetUpdateScheduler != null ) {
+            targetUpdateScheduler.cancel();
+        }
+
+        validationGeneration++;
+
+        context.removeBinding( this );
+    }
+
+    public boolean isDisposed() {
+        return disposed;
     }
 
+    /**
+     * Validates the current target value. If the context is in fail-fast
+     * mode, the validation stops at the first violated constraint.
+     * 
+     * @see BindingContext#setFailFastValidation(boolean)
+     */
     public void validateTargetProperty() {
-        validateTargetProperty( false );
+        validateTargetProperty( false, context.isFailFastValidation() );
+    }
+
+    /**
+     * Validates the current target value against all constraints, also in
+     * fail-fast mode.
+     */
+    /* package private */void validateTargetPropertyFully() {
+        validateTargetProperty( false, false );
     }
 
     public void validateModelProperty() {
 
     }
 
+    /**
+     * Validates the current target value against all constraints and writes
+     * the converted value to the model if it is valid.
+     */
     public void updateModelProperty() {
+        updateModelProperty( false );
+    }
+
+    private void updateModelProperty(boolean failFast) {
 
         if ( modelUpdatePolicy == UpdatePolicy.NEVER ) {
             return;
         }
 
-        validateTargetProperty( true );
+        if ( modelUpdateScheduler != null ) {
+            modelUpdateScheduler.cancel();
+        }
+
+        validateTargetProperty( true, failFast );
     }
 
     public ReadOnlyProperty<T> targetProperty() {
         return targetProperty;
     }
 
-    private void validateTargetProperty(boolean setValueUponSuccessfulValidation) {
+    public ReadOnlyProperty<M> modelProperty() {
+        return modelProperty;
+    }
 
-        // 1. validate null before conversion
-        if ( targetProperty.getValue() == null || "".equals( targetProperty.getValue() ) ) {
-            if ( !validateTargetValue( null ) ) {
-                return;
-            }
+    /**
+     * Returns the group of this binding or <code>null</code> if it doesn't
+     * belong to a group.
+     */
+    public String getGroup() {
+        return group;
+    }
+
+    /**
+     * Sets the delays respectively intervals of time based update policies.
+     */
+    /* package private */void setUpdateDelays(long modelUpdateDelayMillis, long targetUpdateDelayMillis) {
+        this.modelUpdateDelayMillis = modelUpdateDelayMillis;
+        this.targetUpdateDelayMillis = targetUpdateDelayMillis;
+    }
+
+    /* package private */void setGroup(String group) {
+        this.group = group;
+    }
+
+    /**
+     * Returns the id of this binding or <code>null</code> if no id was given.
+     * An id is unique within a context and should be stable across
+     * application runs, as it e.g. identifies the saved drafts of a binding.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /* package private */void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Whether updates and validations are skipped if neither the model nor the
+     * target value changed since they were synchronized the last time.
+     * Enabled by default; should be disabled if the model value is mutated in
+     * place or the validity of a value may change over time.
+     */
+    public void setSkipRedundantUpdates(boolean skipRedundantUpdates) {
+        this.skipRedundantUpdates = skipRedundantUpdates;
+    }
+
+    public boolean isSkippingRedundantUpdates() {
+        return skipRedundantUpdates;
+    }
+
+    /**
+     * Whether model and target are unchanged since the last synchronization
+     * which happened in the given direction.
+     */
+    private boolean isSynchronized(boolean byModelUpdate) {
+        return skipRedundantUpdates && synchronizedByModelUpdate == byModelUpdate && !modelChangedSinceSynchronization
+                && !dirty.get();
+    }
+
+    private void validateTargetProperty(final boolean setValueUponSuccessfulValidation, final boolean failFast) {
+
+        // the target value was converted, validated and written to the model
+        // before, so there is nothing to do
+        if ( isSynchronized( true ) && propertyViolations.isEmpty() ) {
+            ++validationGeneration;
+            return;
         }
 
-        // 2. convert value
-        M valueToSet = null;
+        final T targetValue = targetProperty.getValue();
+        final boolean isEmpty = targetValue == null || "".equals( targetValue );
+
+        // 1. convert value; this always happens on the calling thread as
+        // converters are not required to be thread-safe
+        M convertedValue = null;
+        List<BindingViolation> conversionViolations = null;
+        BindingMetrics metrics = context.getMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        fireConversionStarted( ConversionDirection.TO_MODEL );
 
         try {
-            valueToSet = convertTargetToModel();
+            if ( primitiveConversion != null ) {
+                primitiveConversion.parseTarget( (CharSequence) targetValue );
+
+                // only box the value if it actually is validated
+                if ( isTargetValueConstrained() ) {
+                    convertedValue = primitiveConversion.getParsedValue();
+                }
+            }
+            else {
+                convertedValue = converter.toModel( targetValue );
+            }
         }
         catch ( ConversionException ce ) {
+            conversionViolations = asBindingViolations( ce, targetValue );
+            fireConversionFailed( ConversionDirection.TO_MODEL, targetValue, ce );
+        }
+        finally {
+            if ( metrics.isEnabled() ) {
+                metrics.record( Operation.CONVERSION_TO_MODEL, this, System.nanoTime() - start );
+            }
+            fireConversionFinished( ConversionDirection.TO_MODEL );
+        }
+
+        // any result of a validation still running is outdated from now on
+        final long generation = ++validationGeneration;
+
+        Executor validationExecutor = context.getValidationExecutor();
+
+        if ( validationExecutor == null ) {
+            fireValidationStarted();
+            List<BindingViolation> violations = validateTargetValue( isEmpty, convertedValue, conversionViolations,
+                    failFast );
+            fireValidationRan( convertedValue, violations );
+            applyValidationResult( violations, convertedValue, targetValue, setValueUponSuccessfulValidation );
             return;
         }
 
-        // 3. validate converted value
-        boolean isValid = validateTargetValue( valueToSet );
+        // 2. validate asynchronously and apply the result via the result
+        // executor, unless it has been superseded by a newer validation
+        final M valueToValidate = convertedValue;
+        final List<BindingViolation> violationsOfConversion = conversionViolations;
+        final Executor resultExecutor = context.getValidationResultExecutor();
 
-        if ( isValid && setValueUponSuccessfulValidation && modelProperty instanceof Property ) {
-            ( (Property<M>) modelProperty ).setValue( valueToSet );
+        validationExecutor.execute( new Runnable() {
+
+            @Override
+            public void run() {
+
+                final List<BindingViolation> violations;
+
+                try {
+                    fireValidationStarted();
+                    violations = validateTargetValue( isEmpty, valueToValidate, violationsOfConversion,
+                            failFast );
+                    fireValidationRan( valueToValidate, violations );
+                }
+                catch ( RuntimeException e ) {
+                    logger.error( "Error occurred during validation of " + Binding.this, e );
+                    return;
+                }
+
+                resultExecutor.execute( new Runnable() {
+
+                    @Override
+                    public void run() {
+                        if ( generation == validationGeneration ) {
+                            applyValidationResult( violations, valueToValidate, targetValue,
+                                    setValueUponSuccessfulValidation );
+                        }
+                    }
+                } );
+            }
+        } );
+    }
+
+    /**
+     * Validates the given converted target value. May be invoked from any
+     * thread.
+     * 
+     * @return The violations of the value or <code>null</code> if the value
+     *         couldn't be validated.
+     */
+    private List<BindingViolation> validateTargetValue(boolean isEmpty, M convertedValue,
+            List<BindingViolation> conversionViolations, boolean failFast) {
+
+        // 1. validate null before conversion
+        if ( isEmpty ) {
+            List<BindingViolation> violations = validateTargetValue( null, failFast );
+
+            if ( violations != null && !violations.isEmpty() ) {
+                return violations;
+            }
         }
+
+        // 2. report conversion errors
+        if ( conversionViolations != null ) {
+            return conversionViolations;
+        }
+
+        // 3. validate converted value
+        return validateTargetValue( convertedValue, failFast );
     }
 
-    private M convertTargetToModel() {
+    private void applyValidationResult(List<BindingViolation> violations, M convertedValue, T targetValue,
+            boolean setValueUponSuccessfulValidation) {
 
-        try {
-            return converter.toModel( targetProperty.getValue() );
+        if ( violations != null ) {
+            propertyViolations = violations;
+            publishViolations();
         }
-        catch ( ConversionException ce ) {
 
-            String message;
+        boolean isValid = violations == null || violations.isEmpty();
+
+        if ( isValid && setValueUponSuccessfulValidation && modelProperty instanceof Property ) {
 
-            if ( ce.getBindingViolation() != null ) {
-                message = ce.getBindingViolation().getMessage();
+            ChangeJournal changeJournal = context.getChangeJournal();
+            Object oldValue = changeJournal != null ? modelProperty.getValue() : null;
+
+            if ( primitiveConversion != null ) {
+                primitiveConversion.writeModel();
             }
             else {
-                message = "Error occurred during conversion";
-                logger.error( message, ce );
+                ( (Property<M>) modelProperty ).setValue( convertedValue );
             }
 
-            Set<BindingViolation> violations = new HashSet<BindingViolation>();
-            violations.add( new BindingViolation( labelText, message ) );
+            markSynchronized( targetValue, true );
 
-            targetConstraintViolations.setValue( Collections.unmodifiableList( new ArrayList<BindingViolation>(
-                    violations ) ) );
+            if ( changeJournal != null ) {
+                changeJournal.record( this, oldValue, modelProperty.getValue() );
+            }
 
-            throw ce;
+            if ( context.hasBindingEventListeners() ) {
+                for ( BindingEventListener eventListener : context.getBindingEventListeners() ) {
+                    eventListener.modelWritten( this, modelProperty.getValue() );
+                }
+            }
         }
     }
 
+    /**
+     * Sets the violations of the given cross-field constraint, which are
+     * reported for this binding.
+     */
+    /* package private */void applyCrossFieldResult(CrossFieldConstraint constraint,
+            List<CrossFieldConstraint.Violation> violations) {
+
+        List<BindingViolation> bindingViolations = new ArrayList<BindingViolation>( violations.size() );
+        String constraintType = constraint.getDescriptor().getAnnotation().annotationType().getSimpleName();
+
+        for ( CrossFieldConstraint.Violation oneViolation : violations ) {
+            bindingViolations.add( new BindingViolation( labelText, oneViolation.getMessage(),
+                    modelProperty.getName(), constraintType, modelProperty.getBean() ) );
+        }
+
+        if ( crossFieldViolations == null ) {
+            if ( bindingViolations.isEmpty() ) {
+                return;
+            }
+            crossFieldViolations = new LinkedHashMap<CrossFieldConstraint, List<BindingViolation>>();
+        }
+
+        List<BindingViolation> previous = bindingViolations.isEmpty() ? crossFieldViolations.remove( constraint )
+                : crossFieldViolations.put( constraint, bindingViolations );
+
+        if ( previous == null ? !bindingViolations.isEmpty() : !previous.equals( bindingViolations ) ) {
+            publishViolations();
+        }
+    }
+
+    private void publishViolations() {
+
+        if ( crossFieldViolations == null || crossFieldViolations.isEmpty() ) {
+            targetConstraintViolations.setValue( propertyViolations );
+            return;
+        }
+
+        List<BindingViolation> violations = new ArrayList<BindingViolation>( propertyViolations );
+        for ( List<BindingViolation> oneConstraintViolations : crossFieldViolations.values() ) {
+            violations.addAll( oneConstraintViolations );
+        }
+
+        targetConstraintViolations.setValue( violations );
+    }
+
+    private List<BindingViolation> asBindingViolations(ConversionException ce, T targetValue) {
+
+        String message;
+
+        if ( ce.getBindingViolation() != null ) {
+            message = ce.getBindingViolation().getMessage();
+        }
+        else {
+            message = "Error occurred during conversion";
+            logger.error( message, ce );
+        }
+
+        return Collections.singletonList( new BindingViolation( labelText, message, modelProperty.getName(), null,
+                targetValue ) );
+    }
+
     public void updateTargetProperty() {
 
+        if ( targetUpdateScheduler != null ) {
+            targetUpdateScheduler.cancel();
+        }
+
         if ( targetUpdatePolicy != UpdatePolicy.NEVER && targetProperty instanceof Property ) {
+
+            // the target still shows the converted model value
+            if ( isSynchronized( false ) ) {
+                return;
+            }
+
+            BindingMetrics metrics = context.getMetrics();
+            long start = metrics.isEnabled() ? System.nanoTime() : 0;
+            fireConversionStarted( ConversionDirection.TO_TARGET );
+
+            T targetValue;
+
             try {
-                ( (Property<T>) targetProperty ).setValue( converter.toTarget( modelProperty.getValue() ) );
+                targetValue = primitiveConversion != null ? primitiveConversion.formatModel() : converter
+                        .toTarget( modelProperty.getValue() );
             }
             catch ( ConversionException ce ) {
-                System.out.println( "Error occurred during conversion: " + ce.getMessage() );
+                fireConversionFailed( ConversionDirection.TO_TARGET, modelProperty.getValue(), ce );
+                return;
+            }
+            finally {
+                if ( metrics.isEnabled() ) {
+                    metrics.record( Operation.CONVERSION_TO_TARGET, this, System.nanoTime() - start );
+                }
+                fireConversionFinished( ConversionDirection.TO_TARGET );
+            }
+
+            markSynchronized( targetValue, false );
+            ( (Property<T>) targetProperty ).setValue( targetValue );
+
+            if ( context.hasBindingEventListeners() ) {
+                for ( BindingEventListener eventListener : context.getBindingEventListeners() ) {
+                    eventListener.targetWritten( this, targetValue );
+                }
+            }
+        }
+    }
+
+    private void fireConversionStarted(ConversionDirection direction) {
+
+        if ( context.hasBindingEventListeners() ) {
+            for ( BindingEventListener eventListener : context.getBindingEventListeners() ) {
+                eventListener.conversionStarted( this, direction );
+            }
+        }
+    }
+
+    private void fireConversionFinished(ConversionDirection direction) {
+
+        if ( context.hasBindingEventListeners() ) {
+            for ( BindingEventListener eventListener : context.getBindingEventListeners() ) {
+                eventListener.conversionFinished( this, direction );
+            }
+        }
+    }
+
+    private void fireConversionFailed(ConversionDirection direction, Object value, ConversionException exception) {
+
+        if ( context.hasBindingEventListeners() ) {
+            for ( BindingEventListener eventListener : context.getBindingEventListeners() ) {
+                eventListener.conversionFailed( this, direction, value, exception );
+            }
+        }
+    }
+
+    private void fireValidationStarted() {
+
+        if ( context.hasBindingEventListeners() ) {
+            for ( BindingEventListener eventListener : context.getBindingEventListeners() ) {
+                eventListener.validationStarted( this );
+            }
+        }
+    }
+
+    private void fireValidationRan(M value, List<BindingViolation> violations) {
+
+        if ( context.hasBindingEventListeners() ) {
+            for ( BindingEventListener eventListener : context.getBindingEventListeners() ) {
+                eventListener.validationRan( this, value, violations );
             }
         }
     }
@@ -234,21 +708,183 @@ public class Binding<M, T> {
         return targetConstraintViolations;
     }
 
-    private boolean validateTargetValue(M value) {
+    /**
+     * Whether the model changed since the target was updated the last time.
+     * Only ever <code>true</code> for bindings with the target update policy
+     * {@link UpdatePolicy#LAZILY}.
+     */
+    public ReadOnlyBooleanProperty targetStaleProperty() {
+        return targetStale;
+    }
+
+    public boolean isTargetStale() {
+        return targetStale.get();
+    }
+
+    /**
+     * Updates the target property if it is stale.
+     * 
+     * @see UpdatePolicy#LAZILY
+     */
+    public void refreshTarget() {
+
+        if ( targetStale.get() ) {
+            updateTargetProperty();
+        }
+    }
+
+    /**
+     * Sets a property whose having the given value indicates that the target
+     * is visible, so changes of the model are propagated right away instead of
+     * marking the target stale.
+     */
+    /* package private */void setRefreshTrigger(ObservableValue<?> refreshTrigger, Object refreshTriggerValue) {
+        this.refreshTrigger = refreshTrigger;
+        this.refreshTriggerValue = refreshTriggerValue;
+    }
+
+    private boolean isRefreshTriggerActive() {
+
+        if ( refreshTrigger == null ) {
+            return false;
+        }
+
+        Object value = refreshTrigger.getValue();
+        return value == null ? refreshTriggerValue == null : value.equals( refreshTriggerValue );
+    }
+
+    /**
+     * Whether the target value diverged from the value it had when model and
+     * target were synchronized the last time, i.e. when the model was updated
+     * from the target or vice versa.
+     */
+    public ReadOnlyBooleanProperty dirtyProperty() {
+        return dirty;
+    }
+
+    public boolean isDirty() {
+        return dirty.get();
+    }
+
+    private void markSynchronized(T targetValue, boolean byModelUpdate) {
+        synchronizedTargetValue = targetValue;
+        synchronizedByModelUpdate = byModelUpdate;
+        modelChangedSinceSynchronization = false;
+        updateDirty();
+
+        if ( targetUpdatePolicy.isLazy() ) {
+            targetStale.set( false );
+
+            // re-validate the model property, as it notifies invalidation
+            // listeners only once until its value is retrieved
+            modelProperty.getValue();
+        }
+    }
+
+    private void updateDirty() {
+
+        T targetValue = targetProperty.getValue();
+        boolean isDirty = targetValue == null ? synchronizedTargetValue != null : !targetValue
+                .equals( synchronizedTargetValue );
+
+        if ( isDirty != dirty.get() ) {
+            dirty.set( isDirty );
+            context.dirtyChanged( this, isDirty );
+        }
+    }
+
+    private void saveDraft() {
+
+        DraftJournal draftJournal = context.getDraftJournal();
+
+        if ( draftJournal != null && id != null && targetProperty instanceof StringProperty ) {
+            draftJournal.targetChanged( id, (String) targetProperty.getValue() );
+        }
+    }
+
+    private List<BindingViolation> validateTargetValue(M value, boolean failFast) {
 
         Class<?> beanClass = modelProperty.getBean() != null ? modelProperty.getBean().getClass() : null;
         String propertyName = modelProperty.getName();
 
         if ( beanClass == null || propertyName == null ) {
             logger.warn( "Can't validate bean property " + modelProperty + " without bean type and property name." );
-            return true;
+            return null;
+        }
+
+        ConstraintMetadataCache constraintMetadata = context.getConstraintMetadata();
+
+        if ( !constraintMetadata.isPropertyConstrained( beanClass, propertyName ) ) {
+            return Collections.emptyList();
         }
 
-        Set<? extends ConstraintViolation<?>> violations = validator.validateValue( beanClass, propertyName, value );
+        Validator validator = constraintMetadata.getValidator();
+        ValidationResultCache resultCache = context.getValidationResultCache();
+        Set<? extends ConstraintViolation<?>> violations = resultCache != null ? resultCache.get( validator,
+                beanClass, propertyName, value ) : null;
+
+        if ( violations == null && failFast ) {
+            ValidationPipeline pipeline = constraintMetadata.getValidationPipeline( beanClass, propertyName );
+
+            // the partial result of a fail-fast validation isn't cached
+            if ( pipeline.isApplicable() ) {
+                return validateTargetValue( pipeline, value );
+            }
+        }
 
-        targetConstraintViolations.setValue( Collections.unmodifiableList( asBindingViolations( violations ) ) );
+        if ( violations == null ) {
+            BindingMetrics metrics = context.getMetrics();
+            long start = metrics.isEnabled() ? System.nanoTime() : 0;
 
-        return targetConstraintViolations.getValue().isEmpty();
+            violations = validator.validateValue( beanClass, propertyName, value );
+
+            if ( metrics.isEnabled() ) {
+                metrics.record( Operation.VALIDATION, this, System.nanoTime() - start );
+            }
+
+            if ( resultCache != null ) {
+                resultCache.put( validator, beanClass, propertyName, value, violations );
+            }
+        }
+
+        return Collections.unmodifiableList( asBindingViolations( violations ) );
+    }
+
+    /**
+     * Validates the given value in fail-fast mode using the given pipeline.
+     */
+    private List<BindingViolation> validateTargetValue(ValidationPipeline pipeline, M value) {
+
+        BindingMetrics metrics = context.getMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+
+        List<ValidationPipeline.Violation> violations = pipeline.validate( value, true );
+
+        if ( metrics.isEnabled() ) {
+            metrics.record( Operation.VALIDATION, this, System.nanoTime() - start );
+        }
+
+        if ( violations.isEmpty() ) {
+            return Collections.emptyList();
+        }
+
+        List<BindingViolation> theValue = new ArrayList<BindingViolation>( violations.size() );
+
+        for ( ValidationPipeline.Violation oneViolation : violations ) {
+            theValue.add( new BindingViolation( labelText, oneViolation.getMessage(), modelProperty.getName(),
+                    oneViolation.getConstraint().annotationType().getSimpleName(), value ) );
+        }
+
+        return Collections.unmodifiableList( theValue );
+    }
+
+    private boolean isTargetValueConstrained() {
+
+        Object bean = modelProperty.getBean();
+        String propertyName = modelProperty.getName();
+
+        return bean != null && propertyName != null
+                && context.getConstraintMetadata().isPropertyConstrained( bean.getClass(), propertyName );
     }
 
     private List<BindingViolation> asBindingViolations(Set<? extends ConstraintViolation<?>> violations) {
@@ -256,13 +892,63 @@ public class Binding<M, T> {
         List<BindingViolation> theValue = new ArrayList<BindingViolation>();
 
         for ( ConstraintViolation<?> oneConstraintViolation : violations ) {
-            theValue.add( new BindingViolation( labelText, oneConstraintViolation.getMessage() ) );
+            theValue.add( new BindingViolation( labelText, oneConstraintViolation.getMessage(),
+                    oneConstraintViolation.getPropertyPath().toString(), oneConstraintViolation
+                            .getConstraintDescriptor().getAnnotation().annotationType().getSimpleName(),
+                    oneConstraintViolation.getInvalidValue() ) );
         }
 
         return theValue;
     }
 
-    private static class Listener implements ChangeListener<Object> {
+    /**
+     * Propagates a change of the given property, which previously was deferred
+     * by the context, according to the update policies of this binding.
+     */
+    /* package private */void propagateDeferredChange(ObservableValue<?> source) {
+        listener.propagate( source );
+    }
+
+    /**
+     * Returns the scheduler for propagating changes of the given property if
+     * the corresponding update policy is time based, <code>null</code>
+     * otherwise.
+     */
+    private UpdateScheduler getUpdateScheduler(final ObservableValue<?> source) {
+
+        if ( source == targetProperty && modelUpdatePolicy.isTimeBased() ) {
+            if ( modelUpdateScheduler == null ) {
+                modelUpdateScheduler = new UpdateScheduler( modelUpdatePolicy, modelUpdateDelayMillis,
+                        new Propagation( source ), FxThreadExecutor.INSTANCE );
+            }
+            return modelUpdateScheduler;
+        }
+        else if ( source == modelProperty && targetUpdatePolicy.isTimeBased() ) {
+            if ( targetUpdateScheduler == null ) {
+                targetUpdateScheduler = new UpdateScheduler( targetUpdatePolicy, targetUpdateDelayMillis,
+                        new Propagation( source ), FxThreadExecutor.INSTANCE );
+            }
+            return targetUpdateScheduler;
+        }
+
+        return null;
+    }
+
+    private class Propagation implements Runnable {
+
+        private final ObservableValue<?> source;
+
+        private Propagation(ObservableValue<?> source) {
+            this.source = source;
+        }
+
+        @Override
+        public void run() {
+            listener.propagate( source );
+        }
+    }
+
+    private static class Listener implements ChangeListener<Object>, InvalidationListener {
 
         private final Binding<?, ?> binding;
 
@@ -275,6 +961,77 @@ public class Binding<M, T> {
         @Override
         public void changed(ObservableValue<? extends Object> observable, Object oldValue, Object newValue) {
 
+            BindingMetrics metrics = binding.context.getMetrics();
+
+            if ( !metrics.isEnabled() ) {
+                dispatch( observable );
+                return;
+            }
+
+            long start = System.nanoTime();
+
+            try {
+                dispatch( observable );
+            }
+            finally {
+                metrics.record( Operation.LISTENER_DISPATCH, binding, System.nanoTime() - start );
+            }
+        }
+
+        /**
+         * Invoked upon changes of the model if the target is updated lazily.
+         */
+        @Override
+        public void invalidated(Observable observable) {
+
+            binding.modelChangedSinceSynchronization = true;
+            binding.targetStale.set( true );
+            binding.context.modelChanged( binding );
+
+            if ( eventSource != null ) {
+                return;
+            }
+
+            if ( binding.context.isBatching() ) {
+                binding.context.deferPropagation( binding, binding.modelProperty );
+            }
+            else {
+                propagate( binding.modelProperty );
+            }
+        }
+
+        private void dispatch(ObservableValue<?> observable) {
+
+            if ( observable == binding.targetProperty ) {
+                binding.updateDirty();
+                binding.saveDraft();
+            }
+            else {
+                binding.modelChangedSinceSynchronization = true;
+                binding.context.modelChanged( binding );
+            }
+
+            if ( eventSource != null ) {
+                return;
+            }
+
+            if ( binding.context.isBatching() ) {
+                binding.context.deferPropagation( binding, observable );
+                return;
+            }
+
+            UpdateScheduler updateScheduler = binding.getUpdateScheduler( observable );
+
+            if ( updateScheduler != null ) {
+                updateScheduler.changed();
+            }
+            else {
+                propagate( observable );
+            }
+        }
+
+        private void propagate(ObservableValue<?> observable) {
+
             if ( eventSource != null ) {
                 return;
             }
@@ -282,10 +1039,14 @@ public class Binding<M, T> {
             try {
                 eventSource = observable;
 
-                if ( observable == binding.targetProperty && binding.modelUpdatePolicy == UpdatePolicy.INSTANTLY ) {
-                    binding.updateModelProperty();
+                if ( observable == binding.targetProperty && binding.modelUpdatePolicy.isAutomatic() ) {
+                    binding.updateModelProperty( binding.context.isFailFastValidation() );
+                }
+                else if ( observable == binding.modelProperty && binding.targetUpdatePolicy.isAutomatic() ) {
+                    binding.updateTargetProperty();
                 }
-                else if ( observable == binding.modelProperty && binding.targetUpdatePolicy == UpdatePolicy.INSTANTLY ) {
+                else if ( observable == binding.modelProperty && binding.targetUpdatePolicy.isLazy()
+                        && binding.isRefreshTriggerActive() ) {
                     binding.updateTargetProperty();
                 }
             }
@@ -17,11 +17,19 @@ package de.gmorling.jxbinding;
 
 import static de.gmorling.jxbinding.converter.StringBindingViolationListConverter.SHORT_FORMAT;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
@@ -31,16 +39,32 @@ import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.StringProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
+import javafx.collections.ObservableList;
 import javafx.scene.control.Label;
 
-import javax.validation.Validation;
-import javax.validation.Validator;
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidatorFactory;
 
 import de.gmorling.jxbinding.converter.Converter;
 import de.gmorling.jxbinding.converter.ConverterFactory;
+import de.gmorling.jxbinding.converter.NoOpConverter;
 import de.gmorling.jxbinding.converter.StringBindingViolationListConverter;
+import de.gmorling.jxbinding.event.BindingEventListener;
+import de.gmorling.jxbinding.metrics.BindingMetrics;
+import de.gmorling.jxbinding.metrics.BindingMetrics.Operation;
+import de.gmorling.jxbinding.metrics.NoOpBindingMetrics;
+import de.gmorling.jxbinding.validation.ConstraintMetadataCache;
+import de.gmorling.jxbinding.validation.CrossFieldConstraint;
+import de.gmorling.jxbinding.validation.CrossFieldConstraints;
+import de.gmorling.jxbinding.validation.ValidationCost;
+import de.gmorling.jxbinding.validation.ValidationResultCache;
+import de.gmorling.jxbinding.validation.DefaultValidatorProvider;
+import de.gmorling.jxbinding.validation.ValidatorFactoryProvider;
+import de.gmorling.jxbinding.validation.ValidatorProvider;
 
 /**
  * 
@@ -49,30 +73,451 @@ import de.gmorling.jxbinding.converter.StringBindingViolationListConverter;
  */
 public class BindingContext implements ChangeListener<List<BindingViolation>> {
 
-    private final Set<Binding<?, ?>> bindings = new HashSet<Binding<?, ?>>();
+    private final static BindingEventListener[] NO_EVENT_LISTENERS = new BindingEventListener[0];
+
+    private final BindingRegistry bindings = new BindingRegistry();
 
     private final ObjectProperty<List<BindingViolation>> allConstraintViolations = new SimpleObjectProperty<List<BindingViolation>>(
             Collections.<BindingViolation> emptyList() );
 
     private final BooleanProperty isValidProperty = new SimpleBooleanProperty( false );
 
-    private <M, T> void addBinding(Binding<M, T> binding) {
+    private final ViolationAggregator violationAggregator = new ViolationAggregator();
+
+    private final Set<Binding<?, ?>> dirtyBindings = new LinkedHashSet<Binding<?, ?>>();
+
+    private final BooleanProperty isDirtyProperty = new SimpleBooleanProperty( false );
+
+    private final Set<PendingPropagation> pendingPropagations = new LinkedHashSet<PendingPropagation>();
+
+    private int batchDepth;
+
+    private boolean flushingBatch;
+
+    private boolean violationsChangedInBatch;
+
+    private boolean crossFieldValidationEnabled;
+
+    private boolean failFastValidation;
+
+    /**
+     * The cross-field constraints to be evaluated upon commit of the current
+     * batch, by bean.
+     */
+    private final Map<Object, Set<CrossFieldConstraint>> pendingCrossFieldValidations = new IdentityHashMap<Object, Set<CrossFieldConstraint>>();
+
+    private boolean useWeakListeners;
+
+    private final List<ListenerRegistration<?>> listenerRegistrations = new ArrayList<ListenerRegistration<?>>();
+
+    private final List<ListContentBinding<?, ?>> listContentBindings = new ArrayList<ListContentBinding<?, ?>>();
+
+    private final ValidatorProvider validatorProvider;
+
+    private volatile ConstraintMetadataCache constraintMetadata;
+
+    private volatile ValidationResultCache validationResultCache;
+
+    private volatile BindingMetrics metrics = NoOpBindingMetrics.INSTANCE;
+
+    private ChangeJournal changeJournal;
+
+    private DraftJournal draftJournal;
+
+    /**
+     * Copied upon modification, so bindings can iterate it without locking.
+     */
+    private volatile BindingEventListener[] bindingEventListeners = NO_EVENT_LISTENERS;
+
+    private Executor validationExecutor;
+
+    private Executor validationResultExecutor = FxThreadExecutor.INSTANCE;
+
+    /**
+     * Creates a new binding context which uses a validator retrieved from the
+     * default validator factory. That factory is bootstrapped only once and
+     * shared with all other contexts.
+     */
+    public BindingContext() {
+        this( DefaultValidatorProvider.INSTANCE );
+    }
+
+    /**
+     * Creates a new binding context which uses the validator provided by the
+     * given provider. Constraint validators are only invoked directly (e.g.
+     * in fail-fast mode) if the provider is a {@link ValidatorFactoryProvider}.
+     */
+    public BindingContext(ValidatorProvider validatorProvider) {
+        this.validatorProvider = validatorProvider;
+    }
+
+    private <M, T> void addBinding(Binding<M, T> binding, String group, String id) {
+
+        if ( id != null && bindings.getById( id ) != null ) {
+            throw new IllegalArgumentException( "This context already has a binding with id " + id );
+        }
+
+        binding.setGroup( group );
+        binding.setId( id );
         bindings.add( binding );
         binding.targetConstraintViolationsProperty().addListener( this );
     }
 
+    /* package private */void removeBinding(Binding<?, ?> binding) {
+
+        if ( !bindings.remove( binding ) ) {
+            return;
+        }
+
+        binding.targetConstraintViolationsProperty().removeListener( this );
+        dirtyChanged( binding, false );
+
+        for ( Iterator<ListenerRegistration<?>> it = listenerRegistrations.iterator(); it.hasNext(); ) {
+            ListenerRegistration<?> oneRegistration = it.next();
+            if ( oneRegistration.binding == binding ) {
+                oneRegistration.remove();
+                it.remove();
+            }
+        }
+
+        removeViolations( binding.targetConstraintViolationsProperty() );
+
+        if ( changeJournal != null ) {
+            changeJournal.discard( binding );
+        }
+    }
+
+    /* package private */void addListContentBinding(ListContentBinding<?, ?> binding) {
+
+        listContentBindings.add( binding );
+
+        ReadOnlyObjectProperty<List<BindingViolation>> violations = binding.targetConstraintViolationsProperty();
+        violations.addListener( this );
+        changed( violations, null, violations.get() );
+    }
+
+    /* package private */void removeListContentBinding(ListContentBinding<?, ?> binding) {
+
+        if ( !listContentBindings.remove( binding ) ) {
+            return;
+        }
+
+        binding.targetConstraintViolationsProperty().removeListener( this );
+        removeViolations( binding.targetConstraintViolationsProperty() );
+    }
+
+    private void removeViolations(ObservableValue<List<BindingViolation>> violationsProperty) {
+
+        boolean violationsChanged = violationAggregator.remove( violationsProperty );
+
+        if ( batchDepth > 0 || flushingBatch ) {
+            violationsChangedInBatch |= violationsChanged;
+        }
+        else {
+            publishViolations( violationsChanged );
+        }
+    }
+
+    /**
+     * Closes this context, disposing all its bindings and removing all
+     * listeners registered by it, e.g. for automatic validation.
+     * 
+     * @see Binding#dispose()
+     */
+    public void close() {
+
+        for ( Binding<?, ?> oneBinding : bindings.getAll() ) {
+            oneBinding.dispose();
+        }
+
+        for ( ListContentBinding<?, ?> oneBinding : new ArrayList<ListContentBinding<?, ?>>( listContentBindings ) ) {
+            oneBinding.dispose();
+        }
+
+        for ( ListenerRegistration<?> oneRegistration : listenerRegistrations ) {
+            oneRegistration.remove();
+        }
+
+        listenerRegistrations.clear();
+        pendingPropagations.clear();
+    }
+
+    /**
+     * Whether bindings created subsequently register weak listeners with
+     * their model and target property. In that case a binding doesn't prevent
+     * its context and target property (e.g. a form) from being garbage
+     * collected when only the model is referenced from elsewhere, without
+     * needing to close the context. The context itself must then be
+     * referenced as long as its bindings shall be active.
+     */
+    public void setUseWeakListeners(boolean useWeakListeners) {
+        this.useWeakListeners = useWeakListeners;
+    }
+
+    public boolean isUsingWeakListeners() {
+        return useWeakListeners;
+    }
+
+    /**
+     * Adds the given listener to the given property, using a weak listener if
+     * requested. The registration is removed when the given binding is
+     * disposed or this context is closed.
+     */
+    private <T> void registerListener(Binding<?, ?> binding, ObservableValue<T> property, ChangeListener<T> listener) {
+
+        ListenerRegistration<T> registration = new ListenerRegistration<T>( binding, property, listener,
+                useWeakListeners );
+
+        listenerRegistrations.add( registration );
+    }
+
+    /**
+     * Updates the models of all bindings in the order of their creation.
+     */
     public void updateModels() {
-        for ( Binding<?, ?> oneListener : bindings ) {
-            oneListener.updateModelProperty();
+        for ( Binding<?, ?> oneBinding : bindings.getAll() ) {
+            oneBinding.updateModelProperty();
+        }
+    }
+
+    /**
+     * Updates the models of all bindings of the given group.
+     */
+    public void updateModels(String group) {
+        for ( Binding<?, ?> oneBinding : bindings.getByGroup( group ) ) {
+            oneBinding.updateModelProperty();
+        }
+    }
+
+    /**
+     * Updates the models of all dirty bindings, i.e. bindings whose target
+     * value was changed since the last synchronization.
+     * 
+     * @see Binding#isDirty()
+     */
+    public void updateDirtyModels() {
+        for ( Binding<?, ?> oneBinding : new ArrayList<Binding<?, ?>>( dirtyBindings ) ) {
+            oneBinding.updateModelProperty();
         }
     }
 
+    /**
+     * Validates the target values of all bindings.
+     */
+    public void validateAll() {
+
+        for ( Binding<?, ?> oneBinding : bindings.getAll() ) {
+            oneBinding.validateTargetPropertyFully();
+        }
+
+        if ( crossFieldValidationEnabled ) {
+
+            Map<Object, Boolean> beans = new IdentityHashMap<Object, Boolean>();
+
+            for ( Binding<?, ?> oneBinding : bindings.getAll() ) {
+
+                Object bean = oneBinding.modelProperty().getBean();
+
+                if ( bean != null && beans.put( bean, Boolean.TRUE ) == null ) {
+                    validateCrossFieldConstraints( bean, getConstraintMetadata()
+                            .getCrossFieldConstraints( bean.getClass() ).getConstraints() );
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates the target values of all dirty bindings.
+     * 
+     * @see Binding#isDirty()
+     */
+    public void validateDirty() {
+        for ( Binding<?, ?> oneBinding : new ArrayList<Binding<?, ?>>( dirtyBindings ) ) {
+            oneBinding.validateTargetPropertyFully();
+        }
+    }
+
+    /**
+     * Whether any binding of this context is dirty.
+     * 
+     * @see Binding#isDirty()
+     */
+    public ReadOnlyBooleanProperty isDirtyProperty() {
+        return isDirtyProperty;
+    }
+
+    /* package private */void dirtyChanged(Binding<?, ?> binding, boolean isDirty) {
+
+        if ( isDirty ) {
+            dirtyBindings.add( binding );
+        }
+        else {
+            dirtyBindings.remove( binding );
+        }
+
+        isDirtyProperty.set( !dirtyBindings.isEmpty() );
+    }
+
+    /**
+     * Updates the targets of all bindings in the order of their creation.
+     */
     public void updateTargets() {
-        for ( Binding<?, ?> oneListener : bindings ) {
-            oneListener.updateTargetProperty();
+        for ( Binding<?, ?> oneBinding : bindings.getAll() ) {
+            oneBinding.updateTargetProperty();
+        }
+        for ( ListContentBinding<?, ?> oneBinding : listContentBindings ) {
+            oneBinding.updateTarget();
+        }
+    }
+
+    /**
+     * Updates the targets of all bindings of the given group.
+     */
+    public void updateTargets(String group) {
+        for ( Binding<?, ?> oneBinding : bindings.getByGroup( group ) ) {
+            oneBinding.updateTargetProperty();
         }
     }
 
+    /**
+     * Validates the target values of all bindings of the given group.
+     */
+    public void validate(String group) {
+        for ( Binding<?, ?> oneBinding : bindings.getByGroup( group ) ) {
+            oneBinding.validateTargetPropertyFully();
+        }
+    }
+
+    /**
+     * Returns all bindings of this context in the order of their creation.
+     * The returned collection is a snapshot, i.e. it isn't affected by
+     * bindings being created or disposed later on.
+     */
+    public Collection<Binding<?, ?>> getBindings() {
+        return bindings.getAll();
+    }
+
+    /**
+     * Returns the bindings of the given model property. The returned list is
+     * a snapshot.
+     */
+    public List<Binding<?, ?>> getBindingsForModel(ReadOnlyProperty<?> modelProperty) {
+        return bindings.getByModelProperty( modelProperty );
+    }
+
+    /**
+     * Returns the binding of the given target property.
+     * 
+     * @return The binding of the given target property or <code>null</code>
+     *         if this context has no such binding. If there are several such
+     *         bindings, the first one created is returned.
+     */
+    public Binding<?, ?> getBindingForTarget(ReadOnlyProperty<?> targetProperty) {
+
+        List<Binding<?, ?>> bindingsOfTarget = bindings.getByTargetProperty( targetProperty );
+
+        return bindingsOfTarget.isEmpty() ? null : bindingsOfTarget.get( 0 );
+    }
+
+    /**
+     * Returns the binding with the given id.
+     * 
+     * @return The binding with the given id or <code>null</code> if this
+     *         context has no such binding.
+     */
+    public Binding<?, ?> getBinding(String id) {
+        return bindings.getById( id );
+    }
+
+    /**
+     * Returns the bindings of the given group in the order of their creation.
+     * The returned list is a snapshot, so e.g. the bindings of a group may be
+     * disposed while iterating over it.
+     */
+    public List<Binding<?, ?>> getBindingsInGroup(String group) {
+        return bindings.getByGroup( group );
+    }
+
+    /**
+     * Starts a batch. Until the batch is committed, changes of bound properties
+     * aren't propagated and the aggregated violations of this context aren't
+     * updated. Batches may be nested, only committing the outermost batch
+     * triggers the propagation.
+     * 
+     * @see #commit()
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Commits the current batch. If it is the outermost batch, all changes
+     * made since its beginning are propagated, applying each binding's update
+     * policy once per changed property, no matter how often that property was
+     * changed. Afterwards the aggregated violations are updated once.
+     * 
+     * @throws IllegalStateException
+     *             If no batch is in progress.
+     */
+    public void commit() {
+
+        if ( batchDepth == 0 ) {
+            throw new IllegalStateException( "No batch is in progress" );
+        }
+
+        if ( --batchDepth > 0 ) {
+            return;
+        }
+
+        flushingBatch = true;
+
+        try {
+            while ( !pendingPropagations.isEmpty() ) {
+                List<PendingPropagation> propagations = new ArrayList<PendingPropagation>( pendingPropagations );
+                pendingPropagations.clear();
+
+                for ( PendingPropagation onePropagation : propagations ) {
+                    onePropagation.binding.propagateDeferredChange( onePropagation.source );
+                }
+            }
+
+            validatePendingCrossFieldConstraints();
+        }
+        finally {
+            flushingBatch = false;
+        }
+
+        boolean violationsChanged = violationsChangedInBatch;
+        violationsChangedInBatch = false;
+
+        publishViolations( violationsChanged );
+    }
+
+    /**
+     * Runs the given task within a batch.
+     * 
+     * @see #beginBatch()
+     */
+    public void batch(Runnable task) {
+
+        beginBatch();
+
+        try {
+            task.run();
+        }
+        finally {
+            commit();
+        }
+    }
+
+    public boolean isBatching() {
+        return batchDepth > 0;
+    }
+
+    /* package private */void deferPropagation(Binding<?, ?> binding, ObservableValue<?> source) {
+        pendingPropagations.add( new PendingPropagation( binding, source ) );
+    }
+
     public <M> ReadOnlyBindingBuilderContext<M> bind(ReadOnlyProperty<M> modelProperty) {
         return new ReadOnlyBindingBuilderContext<M>( modelProperty, this );
     }
@@ -81,6 +526,81 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
         return new BindingBuilderContext<M>( modelProperty, this );
     }
     
+    /**
+     * Binds the given properties of the given bean to the given target
+     * properties in one pass, using the update policy
+     * {@link UpdatePolicy#INSTANTLY} in both directions. The
+     * <code>xxxProperty()</code> accessors of a bean type are discovered only
+     * once, so binding further beans of the same type requires hardly any
+     * reflection.
+     * 
+     * @param bean The bean to bind.
+     * @param targetProperties The target properties keyed by the names of the
+     *        bean properties they shall be bound to.
+     * 
+     * @return The created bindings, keyed by bean property name.
+     */
+    public Map<String, Binding<?, ?>> bindBean(Object bean, Map<String, ? extends Property<?>> targetProperties) {
+        return bindBean( bean, targetProperties, UpdatePolicy.INSTANTLY );
+    }
+
+    /**
+     * Binds the given properties of the given bean to the given target
+     * properties in one pass, using the given model update policy.
+     * 
+     * @see #bindBean(Object, Map)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Binding<?, ?>> bindBean(Object bean, Map<String, ? extends Property<?>> targetProperties,
+            UpdatePolicy modelUpdatePolicy) {
+
+        // time based policies need a delay, which can only be given via the
+        // builder
+        modelUpdatePolicy.checkModelUpdateDelay( 0 );
+
+        BeanPropertyAccessors accessors = BeanPropertyAccessors.forType( bean.getClass() );
+        Map<String, Binding<?, ?>> beanBindings = new LinkedHashMap<String, Binding<?, ?>>();
+
+        for ( Entry<String, ? extends Property<?>> entry : targetProperties.entrySet() ) {
+
+            ReadOnlyProperty<Object> modelProperty = (ReadOnlyProperty<Object>) accessors.getProperty( bean,
+                    entry.getKey() );
+            Property<Object> targetProperty = (Property<Object>) entry.getValue();
+            Converter<Object, Object> converter = (Converter<Object, Object>) accessors.getConverter( entry.getKey(),
+                    modelProperty, targetProperty );
+
+            Binding<Object, Object> binding;
+
+            if ( modelProperty instanceof Property ) {
+                binding = new Binding<Object, Object>( (Property<Object>) modelProperty, targetProperty,
+                        modelUpdatePolicy, UpdatePolicy.INSTANTLY, converter, this );
+            }
+            else {
+                binding = new Binding<Object, Object>( modelProperty, targetProperty, UpdatePolicy.INSTANTLY,
+                        converter, this );
+            }
+
+            addBinding( binding, null, null );
+            beanBindings.put( entry.getKey(), binding );
+        }
+
+        // resolve the constraint meta-data up front rather than upon the
+        // first validation
+        getConstraintMetadata().getBeanDescriptor( bean.getClass() );
+
+        return beanBindings;
+    }
+
+    /**
+     * Binds the elements of the given list to a target list, propagating
+     * changes incrementally.
+     * 
+     * @see ListContentBinding
+     */
+    public <M> ListContentBindingBuilder<M> bindContent(ObservableList<M> modelList) {
+        return new ListContentBindingBuilder<M>( modelList, this );
+    }
+
     public ReadOnlyBindingBuilderConverterContext<List<BindingViolation>, String> bindBindingViolations(Binding<?, ?> binding) {
         
         return this.bind( binding.targetConstraintViolationsProperty() )
@@ -88,7 +608,23 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
     }
 
     public ValidatorContextBuilder autoValidateTargetPropertyOf(Binding<?, ?> binding) {
-        return new ValidatorContextBuilder( binding, binding.targetProperty() );
+        return new ValidatorContextBuilder( binding, binding.targetProperty(), this );
+    }
+
+    /**
+     * Allows to refresh the target of a binding with the target update policy
+     * {@link UpdatePolicy#LAZILY} depending on some property, e.g. when its
+     * tab gets selected:
+     * 
+     * <pre>
+     * context.refreshTargetPropertyOf( binding ).upon( tab.selectedProperty() ).becoming( true );
+     * </pre>
+     * 
+     * While the property has the given value, changes of the model are
+     * propagated right away.
+     */
+    public TargetRefreshBuilder refreshTargetPropertyOf(Binding<?, ?> binding) {
+        return new TargetRefreshBuilder( binding, this );
     }
 
     public ReadOnlyObjectProperty<List<BindingViolation>> constraintViolationsProperty() {
@@ -99,20 +635,405 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
         return isValidProperty;
     }
 
+    /**
+     * Sets the executor used for validating the target values of this
+     * context's bindings. If set, validations don't block the calling thread;
+     * their results are applied via the validation result executor, which by
+     * default runs them on the JavaFX application thread. If a binding is
+     * validated again before the result of a previous validation is
+     * available, that result is discarded. Conversions are always performed
+     * synchronously.
+     * 
+     * @param validationExecutor
+     *            The executor to use or <code>null</code> to validate
+     *            synchronously (the default).
+     */
+    public void setValidationExecutor(Executor validationExecutor) {
+        this.validationExecutor = validationExecutor;
+    }
+
+    public Executor getValidationExecutor() {
+        return validationExecutor;
+    }
+
+    /**
+     * Sets the executor used for applying the results of asynchronous
+     * validations. It must execute all tasks on the JavaFX application thread
+     * (or, e.g. in tests, on one and the same thread).
+     */
+    public void setValidationResultExecutor(Executor validationResultExecutor) {
+        this.validationResultExecutor = validationResultExecutor;
+    }
+
+    public Executor getValidationResultExecutor() {
+        return validationResultExecutor;
+    }
+
+    /**
+     * Sets a cache for validation results, so that validating a value which
+     * was validated before for the same bean type and property doesn't invoke
+     * the validator again. The cache may be shared by several contexts. By
+     * default no results are cached.
+     */
+    public void setValidationResultCache(ValidationResultCache validationResultCache) {
+        this.validationResultCache = validationResultCache;
+    }
+
+    public ValidationResultCache getValidationResultCache() {
+        return validationResultCache;
+    }
+
+    /**
+     * Whether the class-level constraints of bound beans are validated
+     * incrementally. If enabled, a change of a model property re-evaluates
+     * only those constraints which read that property, and their violations
+     * are reported for the bindings of the properties concerned. Disabled by
+     * default.
+     * 
+     * @see CrossFieldConstraints
+     */
+    public void setCrossFieldValidationEnabled(boolean crossFieldValidationEnabled) {
+        this.crossFieldValidationEnabled = crossFieldValidationEnabled;
+    }
+
+    public boolean isCrossFieldValidationEnabled() {
+        return crossFieldValidationEnabled;
+    }
+
+    /**
+     * Whether interactive validations, i.e. validations upon automatic model
+     * updates and via {@link Binding#validateTargetProperty()}, stop at the
+     * first violated constraint of a property. The constraints are evaluated
+     * in the order of their cost, so expensive constraints aren't evaluated
+     * if a cheap one already failed. Explicit model updates and validations
+     * of several bindings, e.g. via {@link #updateModels()} or
+     * {@link #validateAll()}, always evaluate all constraints. Disabled by
+     * default.
+     * 
+     * @see ValidationCost
+     */
+    public void setFailFastValidation(boolean failFastValidation) {
+        this.failFastValidation = failFastValidation;
+    }
+
+    public boolean isFailFastValidation() {
+        return failFastValidation;
+    }
+
+    /**
+     * Invoked upon changes of the model property of the given binding.
+     */
+    /* package private */void modelChanged(Binding<?, ?> binding) {
+
+        if ( !crossFieldValidationEnabled ) {
+            return;
+        }
+
+        Object bean = binding.modelProperty().getBean();
+        String propertyName = binding.modelProperty().getName();
+
+        if ( bean == null || propertyName == null ) {
+            return;
+        }
+
+        List<CrossFieldConstraint> constraints = getConstraintMetadata().getCrossFieldConstraints( bean.getClass() )
+                .getConstraintsReading( propertyName );
+
+        if ( constraints.isEmpty() ) {
+            return;
+        }
+
+        if ( batchDepth > 0 || flushingBatch ) {
+
+            Set<CrossFieldConstraint> pendingConstraints = pendingCrossFieldValidations.get( bean );
+
+            if ( pendingConstraints == null ) {
+                pendingConstraints = new LinkedHashSet<CrossFieldConstraint>();
+                pendingCrossFieldValidations.put( bean, pendingConstraints );
+            }
+
+            pendingConstraints.addAll( constraints );
+        }
+        else {
+            validateCrossFieldConstraints( bean, constraints );
+        }
+    }
+
+    private void validatePendingCrossFieldConstraints() {
+
+        while ( !pendingCrossFieldValidations.isEmpty() ) {
+
+            Map<Object, Set<CrossFieldConstraint>> validations = new IdentityHashMap<Object, Set<CrossFieldConstraint>>(
+                    pendingCrossFieldValidations );
+            pendingCrossFieldValidations.clear();
+
+            for ( Entry<Object, Set<CrossFieldConstraint>> oneValidation : validations.entrySet() ) {
+                validateCrossFieldConstraints( oneValidation.getKey(), oneValidation.getValue() );
+            }
+        }
+    }
+
+    /**
+     * Evaluates the given cross-field constraints for the given bean and
+     * applies their violations to the bindings of the properties concerned.
+     */
+    private void validateCrossFieldConstraints(Object bean, Collection<CrossFieldConstraint> constraints) {
+
+        List<Binding<?, ?>> bindingsOfBean = bindings.getByBean( bean );
+
+        if ( bindingsOfBean.isEmpty() ) {
+            return;
+        }
+
+        // the constraints which can't be evaluated directly share one
+        // validation of the complete bean
+        Set<ConstraintViolation<Object>> beanViolations = null;
+
+        for ( CrossFieldConstraint oneConstraint : constraints ) {
+
+            List<CrossFieldConstraint.Violation> violations;
+
+            if ( oneConstraint.isValidatedWithBean() ) {
+
+                if ( beanViolations == null ) {
+                    beanViolations = getConstraintMetadata().getValidator().validate( bean );
+                }
+
+                violations = oneConstraint.getViolations( bean, beanViolations );
+            }
+            else {
+                violations = oneConstraint.validate( bean );
+            }
+
+            for ( Binding<?, ?> oneBinding : bindingsOfBean ) {
+
+                String propertyName = oneBinding.modelProperty().getName();
+
+                if ( propertyName == null || !oneConstraint.reads( propertyName ) ) {
+                    continue;
+                }
+
+                List<CrossFieldConstraint.Violation> violationsOfBinding = new ArrayList<CrossFieldConstraint.Violation>(
+                        violations.size() );
+
+                for ( CrossFieldConstraint.Violation oneViolation : violations ) {
+                    if ( oneConstraint.isReportedFor( oneViolation, propertyName ) ) {
+                        violationsOfBinding.add( oneViolation );
+                    }
+                }
+
+                oneBinding.applyCrossFieldResult( oneConstraint, violationsOfBinding );
+            }
+        }
+    }
+
+    /**
+     * Sets a journal recording the model writes of the bindings of this
+     * context, which allows to undo and redo them. Writes are only recorded
+     * while a journal is set; by default none is set.
+     */
+    public void setChangeJournal(ChangeJournal changeJournal) {
+        this.changeJournal = changeJournal;
+    }
+
+    public ChangeJournal getChangeJournal() {
+        return changeJournal;
+    }
+
+    /**
+     * Sets a journal to which the target values of the bindings of this
+     * context are saved, so a draft of the form can be restored after a crash.
+     * Only bindings with an id are saved; by default no journal is set.
+     * 
+     * @see #restoreDraft(DraftJournal)
+     */
+    public void setDraftJournal(DraftJournal draftJournal) {
+        this.draftJournal = draftJournal;
+    }
+
+    public DraftJournal getDraftJournal() {
+        return draftJournal;
+    }
+
+    /**
+     * Restores the target values saved in the given journal into the target
+     * properties of the bindings with the corresponding ids. All values are
+     * set within one batch, so each changed binding is propagated once.
+     * 
+     * @return The number of restored target values.
+     */
+    @SuppressWarnings("unchecked")
+    public int restoreDraft(DraftJournal draftJournal) {
+
+        int restored = 0;
+
+        beginBatch();
+
+        try {
+            for ( Entry<String, String> oneValue : draftJournal.getDraft().entrySet() ) {
+
+                Binding<?, ?> binding = bindings.getById( oneValue.getKey() );
+
+                if ( binding != null && binding.targetProperty() instanceof StringProperty ) {
+                    ( (Property<String>) binding.targetProperty() ).setValue( oneValue.getValue() );
+                    restored++;
+                }
+            }
+        }
+        finally {
+            commit();
+        }
+
+        return restored;
+    }
+
+    /**
+     * Sets the metrics recording the durations of conversions, validations,
+     * listener dispatches and violation aggregations of this context and its
+     * bindings. By default nothing is recorded.
+     * 
+     * @see de.gmorling.jxbinding.metrics.DefaultBindingMetrics
+     */
+    public void setMetrics(BindingMetrics metrics) {
+        this.metrics = metrics != null ? metrics : NoOpBindingMetrics.INSTANCE;
+    }
+
+    public BindingMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Registers a listener which is notified about the conversions,
+     * validations and property writes of the bindings of this context.
+     */
+    public synchronized void addBindingEventListener(BindingEventListener listener) {
+
+        BindingEventListener[] listeners = Arrays.copyOf( bindingEventListeners, bindingEventListeners.length + 1 );
+        listeners[listeners.length - 1] = listener;
+        bindingEventListeners = listeners;
+    }
+
+    public synchronized void removeBindingEventListener(BindingEventListener listener) {
+
+        List<BindingEventListener> listeners = new ArrayList<BindingEventListener>(
+                Arrays.asList( bindingEventListeners ) );
+
+        if ( listeners.remove( listener ) ) {
+            bindingEventListeners = listeners.toArray( new BindingEventListener[listeners.size()] );
+        }
+    }
+
+    /* package private */boolean hasBindingEventListeners() {
+        return bindingEventListeners.length != 0;
+    }
+
+    /* package private */BindingEventListener[] getBindingEventListeners() {
+        return bindingEventListeners;
+    }
+
+    /**
+     * Returns the constraint meta-data cache of this context. The validator
+     * (and its factory, if the provider exposes it) is retrieved from the
+     * validator provider upon first invocation, so contexts which never
+     * validate don't cause any bootstrap.
+     */
+    /* package private */ConstraintMetadataCache getConstraintMetadata() {
+
+        ConstraintMetadataCache metadata = constraintMetadata;
+
+        if ( metadata == null ) {
+            synchronized ( this ) {
+                metadata = constraintMetadata;
+                if ( metadata == null ) {
+                    ValidatorFactory validatorFactory = null;
+                    if ( validatorProvider instanceof ValidatorFactoryProvider ) {
+                        validatorFactory = ( (ValidatorFactoryProvider) validatorProvider ).getValidatorFactory();
+                    }
+                    metadata = new ConstraintMetadataCache( validatorProvider.getValidator(), validatorFactory );
+                    constraintMetadata = metadata;
+                }
+            }
+        }
+
+        return metadata;
+    }
+
     @Override
     public void changed(ObservableValue<? extends List<BindingViolation>> observable, List<BindingViolation> oldValue,
             List<BindingViolation> newValue) {
 
-        List<BindingViolation> allViolations = new ArrayList<BindingViolation>();
+        BindingMetrics theMetrics = metrics;
 
-        for ( Binding<?, ?> oneBinding : bindings ) {
-            allViolations.addAll( oneBinding.targetConstraintViolationsProperty().getValue() );
+        if ( !theMetrics.isEnabled() ) {
+            aggregateViolations( observable, newValue );
+            return;
         }
 
-        allConstraintViolations.setValue( Collections.unmodifiableList( allViolations ) );
-        isValidProperty.set( allViolations.isEmpty() );
+        long start = System.nanoTime();
 
-        System.out.println( "BindingContext#isValid(): " + isValidProperty.getValue() );
+        try {
+            aggregateViolations( observable, newValue );
+        }
+        finally {
+            theMetrics.record( Operation.VIOLATION_AGGREGATION, null, System.nanoTime() - start );
+        }
+    }
+
+    private void aggregateViolations(ObservableValue<? extends List<BindingViolation>> observable,
+            List<BindingViolation> newValue) {
+
+        boolean violationsChanged = violationAggregator.update( observable, newValue );
+
+        if ( batchDepth > 0 || flushingBatch ) {
+            violationsChangedInBatch |= violationsChanged;
+            return;
+        }
+
+        publishViolations( violationsChanged );
+    }
+
+    private void publishViolations(boolean violationsChanged) {
+
+        if ( !violationsChanged && isValidProperty.get() == violationAggregator.isValid() ) {
+            return;
+        }
+
+        if ( violationsChanged ) {
+            allConstraintViolations.setValue( violationAggregator.getViolations() );
+        }
+        isValidProperty.set( violationAggregator.isValid() );
+    }
+
+    /**
+     * A change of a bound property whose propagation is deferred until the
+     * current batch is committed.
+     */
+    private static class PendingPropagation {
+
+        private final Binding<?, ?> binding;
+        private final ObservableValue<?> source;
+
+        private PendingPropagation(Binding<?, ?> binding, ObservableValue<?> source) {
+            this.binding = binding;
+            this.source = source;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if ( this == obj ) {
+                return true;
+            }
+            if ( obj == null || getClass() != obj.getClass() ) {
+                return false;
+            }
+            PendingPropagation other = (PendingPropagation) obj;
+            return binding == other.binding && source == other.source;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode( binding ) + System.identityHashCode( source );
+        }
     }
 
     public static class ReadOnlyBindingBuilderContext<M> {
@@ -121,6 +1042,9 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
         private final BindingContext bindingContext;
 
         private UpdatePolicy targetUpdatePolicy;
+        private long targetUpdateDelayMillis;
+        private String group;
+        private String id;
 
         public ReadOnlyBindingBuilderContext(ReadOnlyProperty<M> modelProperty, BindingContext bindingContext) {
             this.modelProperty = modelProperty;
@@ -130,22 +1054,44 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
 
         public <T> ReadOnlyBindingBuilderConverterContext<M, T> withConverter(Converter<M, T> converter) {
             return new ReadOnlyBindingBuilderConverterContext<M, T>( modelProperty, converter, bindingContext,
-                    targetUpdatePolicy );
+                    targetUpdatePolicy ).withTargetUpdatePolicy( targetUpdatePolicy, targetUpdateDelayMillis )
+                    .inGroup( group ).withId( id );
         }
 
         public ReadOnlyBindingBuilderContext<M> withTargetUpdatePolicy(UpdatePolicy targetUpdatePolicy) {
+            return withTargetUpdatePolicy( targetUpdatePolicy, 0 );
+        }
+
+        /**
+         * Sets a time based target update policy with the given delay
+         * respectively interval in milliseconds.
+         */
+        public ReadOnlyBindingBuilderContext<M> withTargetUpdatePolicy(UpdatePolicy targetUpdatePolicy, long delayMillis) {
+            this.targetUpdateDelayMillis = targetUpdatePolicy.checkDelay( delayMillis );
             this.targetUpdatePolicy = targetUpdatePolicy;
             return this;
         }
 
+        public ReadOnlyBindingBuilderContext<M> inGroup(String group) {
+            this.group = group;
+            return this;
+        }
+
+        /**
+         * Sets the id of the binding, which must be unique within the context.
+         */
+        public ReadOnlyBindingBuilderContext<M> withId(String id) {
+            this.id = id;
+            return this;
+        }
+
         public <T> Binding<M, T> to(Property<T> targetProperty) {
 
             Converter<M, T> converter = ConverterFactory.getConverter( modelProperty, targetProperty );
-            Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
-
             Binding<M, T> binding = new Binding<M, T>( modelProperty, targetProperty, targetUpdatePolicy, converter,
-                    validator );
-            bindingContext.addBinding( binding );
+                    bindingContext );
+            binding.setUpdateDelays( 0, targetUpdateDelayMillis );
+            bindingContext.addBinding( binding, group, id );
 
             return binding;
         }
@@ -153,10 +1099,8 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
         public <T> Binding<M, T> to(ReadOnlyProperty<T> targetProperty) {
 
             Converter<M, T> converter = ConverterFactory.getConverter( modelProperty, targetProperty );
-            Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
-
-            Binding<M, T> binding = new Binding<M, T>( modelProperty, targetProperty, converter, validator );
-            bindingContext.addBinding( binding );
+            Binding<M, T> binding = new Binding<M, T>( modelProperty, targetProperty, converter, bindingContext );
+            bindingContext.addBinding( binding, group, id );
 
             return binding;
         }
@@ -168,8 +1112,12 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
         private final BindingContext bindingContext;
 
         private UpdatePolicy modelUpdatePolicy;
+        private long modelUpdateDelayMillis;
         private UpdatePolicy targetUpdatePolicy;
+        private long targetUpdateDelayMillis;
         private String labelText;
+        private String group;
+        private String id;
 
         public BindingBuilderContext(Property<M> modelProperty, BindingContext bindingContext) {
             this.modelProperty = modelProperty;
@@ -180,15 +1128,35 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
 
         public <T> BindingBuilderConverterContext<M, T> withConverter(Converter<M, T> converter) {
             return new BindingBuilderConverterContext<M, T>( modelProperty, converter, bindingContext,
-                    modelUpdatePolicy, targetUpdatePolicy );
+                    modelUpdatePolicy, targetUpdatePolicy )
+                    .withModelUpdatePolicy( modelUpdatePolicy, modelUpdateDelayMillis )
+                    .withTargetUpdatePolicy( targetUpdatePolicy, targetUpdateDelayMillis ).inGroup( group ).withId( id );
         }
 
         public BindingBuilderContext<M> withModelUpdatePolicy(UpdatePolicy modelUpdatePolicy) {
+            return withModelUpdatePolicy( modelUpdatePolicy, 0 );
+        }
+
+        /**
+         * Sets a time based model update policy with the given delay
+         * respectively interval in milliseconds.
+         */
+        public BindingBuilderContext<M> withModelUpdatePolicy(UpdatePolicy modelUpdatePolicy, long delayMillis) {
+            this.modelUpdateDelayMillis = modelUpdatePolicy.checkModelUpdateDelay( delayMillis );
             this.modelUpdatePolicy = modelUpdatePolicy;
             return this;
         }
 
         public BindingBuilderContext<M> withTargetUpdatePolicy(UpdatePolicy targetUpdatePolicy) {
+            return withTargetUpdatePolicy( targetUpdatePolicy, 0 );
+        }
+
+        /**
+         * Sets a time based target update policy with the given delay
+         * respectively interval in milliseconds.
+         */
+        public BindingBuilderContext<M> withTargetUpdatePolicy(UpdatePolicy targetUpdatePolicy, long delayMillis) {
+            this.targetUpdateDelayMillis = targetUpdatePolicy.checkDelay( delayMillis );
             this.targetUpdatePolicy = targetUpdatePolicy;
             return this;
         }
@@ -198,14 +1166,26 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
             return this;
         }
 
+        public BindingBuilderContext<M> inGroup(String group) {
+            this.group = group;
+            return this;
+        }
+
+        /**
+         * Sets the id of the binding, which must be unique within the context.
+         */
+        public BindingBuilderContext<M> withId(String id) {
+            this.id = id;
+            return this;
+        }
+
         public <T> Binding<M, T> to(Property<T> targetProperty) {
 
             Converter<M, T> converter = ConverterFactory.getConverter( modelProperty, targetProperty );
-            Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
-
             Binding<M, T> binding = new Binding<M, T>( modelProperty, targetProperty, modelUpdatePolicy,
-                    targetUpdatePolicy, converter, validator, labelText );
-            bindingContext.addBinding( binding );
+                    targetUpdatePolicy, converter, bindingContext, labelText );
+            binding.setUpdateDelays( modelUpdateDelayMillis, targetUpdateDelayMillis );
+            bindingContext.addBinding( binding, group, id );
 
             return binding;
         }
@@ -213,11 +1193,10 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
         public <T> Binding<M, T> to(ReadOnlyProperty<T> targetProperty) {
 
             Converter<M, T> converter = ConverterFactory.getConverter( modelProperty, targetProperty );
-            Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
-
             Binding<M, T> binding = new Binding<M, T>( modelProperty, targetProperty, modelUpdatePolicy, converter,
-                    validator );
-            bindingContext.addBinding( binding );
+                    bindingContext );
+            binding.setUpdateDelays( modelUpdateDelayMillis, 0 );
+            bindingContext.addBinding( binding, group, id );
 
             return binding;
         }
@@ -231,6 +1210,9 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
 
         private String labelText;
         private UpdatePolicy targetUpdatePolicy;
+        private long targetUpdateDelayMillis;
+        private String group;
+        private String id;
 
         public ReadOnlyBindingBuilderConverterContext(ReadOnlyProperty<M> modelProperty, Converter<M, T> converter,
                 BindingContext bindingContext, UpdatePolicy targetUpdatePolicy) {
@@ -241,6 +1223,15 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
         }
 
         public ReadOnlyBindingBuilderConverterContext<M, T> withTargetUpdatePolicy(UpdatePolicy targetUpdatePolicy) {
+            return withTargetUpdatePolicy( targetUpdatePolicy, 0 );
+        }
+
+        /**
+         * Sets a time based target update policy with the given delay
+         * respectively interval in milliseconds.
+         */
+        public ReadOnlyBindingBuilderConverterContext<M, T> withTargetUpdatePolicy(UpdatePolicy targetUpdatePolicy, long delayMillis) {
+            this.targetUpdateDelayMillis = targetUpdatePolicy.checkDelay( delayMillis );
             this.targetUpdatePolicy = targetUpdatePolicy;
             return this;
         }
@@ -250,13 +1241,25 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
             return this;
         }
 
-        public Binding<M, T> to(Property<T> targetProperty) {
+        public ReadOnlyBindingBuilderConverterContext<M, T> inGroup(String group) {
+            this.group = group;
+            return this;
+        }
 
-            Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        /**
+         * Sets the id of the binding, which must be unique within the context.
+         */
+        public ReadOnlyBindingBuilderConverterContext<M, T> withId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Binding<M, T> to(Property<T> targetProperty) {
 
             Binding<M, T> binding = new Binding<M, T>( modelProperty, targetProperty, targetUpdatePolicy, converter,
-                    validator, labelText );
-            bindingContext.addBinding( binding );
+                    bindingContext, labelText );
+            binding.setUpdateDelays( 0, targetUpdateDelayMillis );
+            bindingContext.addBinding( binding, group, id );
 
             return binding;
         }
@@ -270,7 +1273,11 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
 
         private String labelText;
         private UpdatePolicy modelUpdatePolicy;
+        private long modelUpdateDelayMillis;
         private UpdatePolicy targetUpdatePolicy;
+        private long targetUpdateDelayMillis;
+        private String group;
+        private String id;
 
         public BindingBuilderConverterContext(Property<M> modelProperty, Converter<M, T> converter,
                 BindingContext bindingContext, UpdatePolicy modelUpdatePolicy, UpdatePolicy targetUpdatePolicy) {
@@ -287,22 +1294,113 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
         }
 
         public BindingBuilderConverterContext<M, T> withModelUpdatePolicy(UpdatePolicy modelUpdatePolicy) {
+            return withModelUpdatePolicy( modelUpdatePolicy, 0 );
+        }
+
+        /**
+         * Sets a time based model update policy with the given delay
+         * respectively interval in milliseconds.
+         */
+        public BindingBuilderConverterContext<M, T> withModelUpdatePolicy(UpdatePolicy modelUpdatePolicy, long delayMillis) {
+            this.modelUpdateDelayMillis = modelUpdatePolicy.checkModelUpdateDelay( delayMillis );
             this.modelUpdatePolicy = modelUpdatePolicy;
             return this;
         }
 
         public BindingBuilderConverterContext<M, T> withTargetUpdatePolicy(UpdatePolicy targetUpdatePolicy) {
+            return withTargetUpdatePolicy( targetUpdatePolicy, 0 );
+        }
+
+        /**
+         * Sets a time based target update policy with the given delay
+         * respectively interval in milliseconds.
+         */
+        public BindingBuilderConverterContext<M, T> withTargetUpdatePolicy(UpdatePolicy targetUpdatePolicy, long delayMillis) {
+            this.targetUpdateDelayMillis = targetUpdatePolicy.checkDelay( delayMillis );
             this.targetUpdatePolicy = targetUpdatePolicy;
             return this;
         }
 
-        public Binding<M, T> to(Property<T> targetProperty) {
+        public BindingBuilderConverterContext<M, T> inGroup(String group) {
+            this.group = group;
+            return this;
+        }
 
-            Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        /**
+         * Sets the id of the binding, which must be unique within the context.
+         */
+        public BindingBuilderConverterContext<M, T> withId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Binding<M, T> to(Property<T> targetProperty) {
 
             Binding<M, T> binding = new Binding<M, T>( modelProperty, targetProperty, modelUpdatePolicy,
-                    targetUpdatePolicy, converter, validator, labelText );
-            bindingContext.addBinding( binding );
+                    targetUpdatePolicy, converter, bindingContext, labelText );
+            binding.setUpdateDelays( modelUpdateDelayMillis, targetUpdateDelayMillis );
+            bindingContext.addBinding( binding, group, id );
+
+            return binding;
+        }
+    }
+
+    public static class ListContentBindingBuilder<M> {
+
+        private final ObservableList<M> modelList;
+        private final BindingContext bindingContext;
+
+        private String labelText;
+
+        public ListContentBindingBuilder(ObservableList<M> modelList, BindingContext bindingContext) {
+            this.modelList = modelList;
+            this.bindingContext = bindingContext;
+        }
+
+        public <T> ListContentBindingBuilderConverterContext<M, T> withElementConverter(Converter<M, T> converter) {
+            return new ListContentBindingBuilderConverterContext<M, T>( modelList, converter, bindingContext )
+                    .withLabelText( labelText );
+        }
+
+        public ListContentBindingBuilder<M> withLabel(Label label) {
+            this.labelText = label.getText();
+            return this;
+        }
+
+        public ListContentBinding<M, M> to(ObservableList<M> targetList) {
+            return withElementConverter( NoOpConverter.<M> getInstance() ).to( targetList );
+        }
+    }
+
+    public static class ListContentBindingBuilderConverterContext<M, T> {
+
+        private final ObservableList<M> modelList;
+        private final Converter<M, T> converter;
+        private final BindingContext bindingContext;
+
+        private String labelText;
+
+        public ListContentBindingBuilderConverterContext(ObservableList<M> modelList, Converter<M, T> converter,
+                BindingContext bindingContext) {
+            this.modelList = modelList;
+            this.converter = converter;
+            this.bindingContext = bindingContext;
+        }
+
+        public ListContentBindingBuilderConverterContext<M, T> withLabel(Label label) {
+            return withLabelText( label.getText() );
+        }
+
+        private ListContentBindingBuilderConverterContext<M, T> withLabelText(String labelText) {
+            this.labelText = labelText;
+            return this;
+        }
+
+        public ListContentBinding<M, T> to(ObservableList<T> targetList) {
+
+            ListContentBinding<M, T> binding = new ListContentBinding<M, T>( modelList, targetList, converter,
+                    bindingContext, labelText );
+            bindingContext.addListContentBinding( binding );
 
             return binding;
         }
@@ -311,16 +1409,18 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
     public static class ValidatorContextBuilder {
 
         private final Binding<?, ?> binding;
+        private final BindingContext bindingContext;
 
         // private final ReadOnlyProperty<?> property;
 
-        public ValidatorContextBuilder(Binding<?, ?> binding, ReadOnlyProperty<?> property) {
+        public ValidatorContextBuilder(Binding<?, ?> binding, ReadOnlyProperty<?> property, BindingContext bindingContext) {
             this.binding = binding;
+            this.bindingContext = bindingContext;
             // this.property = property;
         }
 
         public <T> ValidatorContextBuilderStep2<T> upon(ReadOnlyProperty<T> sourceProperty) {
-            return new ValidatorContextBuilderStep2<T>( binding, sourceProperty );
+            return new ValidatorContextBuilderStep2<T>( binding, sourceProperty, bindingContext );
         }
 
     }
@@ -329,15 +1429,18 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
 
         private final ReadOnlyProperty<T> property;
         private final Binding<?, ?> binding;
+        private final BindingContext bindingContext;
 
-        public ValidatorContextBuilderStep2(Binding<?, ?> binding, ReadOnlyProperty<T> property) {
+        public ValidatorContextBuilderStep2(Binding<?, ?> binding, ReadOnlyProperty<T> property,
+                BindingContext bindingContext) {
             this.property = property;
             this.binding = binding;
+            this.bindingContext = bindingContext;
         }
 
         public void becoming(final T value) {
 
-            property.addListener( new ChangeListener<T>() {
+            bindingContext.registerListener( binding, property, new ChangeListener<T>() {
                 @Override
                 public void changed(ObservableValue<? extends T> observable, T oldValue, T newValue) {
                     if ( ( newValue != null && newValue.equals( value ) ) || ( newValue == null && value == null ) ) {
@@ -350,4 +1453,80 @@ public class BindingContext implements ChangeListener<List<BindingViolation>> {
 
     }
 
+    public static class TargetRefreshBuilder {
+
+        private final Binding<?, ?> binding;
+        private final BindingContext bindingContext;
+
+        public TargetRefreshBuilder(Binding<?, ?> binding, BindingContext bindingContext) {
+            this.binding = binding;
+            this.bindingContext = bindingContext;
+        }
+
+        public <T> TargetRefreshBuilderStep2<T> upon(ReadOnlyProperty<T> sourceProperty) {
+            return new TargetRefreshBuilderStep2<T>( binding, sourceProperty, bindingContext );
+        }
+
+    }
+
+    public static class TargetRefreshBuilderStep2<T> {
+
+        private final ReadOnlyProperty<T> property;
+        private final Binding<?, ?> binding;
+        private final BindingContext bindingContext;
+
+        public TargetRefreshBuilderStep2(Binding<?, ?> binding, ReadOnlyProperty<T> property,
+                BindingContext bindingContext) {
+            this.property = property;
+            this.binding = binding;
+            this.bindingContext = bindingContext;
+        }
+
+        public void becoming(final T value) {
+
+            binding.setRefreshTrigger( property, value );
+
+            bindingContext.registerListener( binding, property, new ChangeListener<T>() {
+                @Override
+                public void changed(ObservableValue<? extends T> observable, T oldValue, T newValue) {
+                    if ( ( newValue != null && newValue.equals( value ) ) || ( newValue == null && value == null ) ) {
+
+                        binding.refreshTarget();
+                    }
+                }
+            } );
+        }
+
+    }
+
+    /**
+     * A listener registered by this context with some property.
+     */
+    private static class ListenerRegistration<T> {
+
+        private final Binding<?, ?> binding;
+        private final ObservableValue<T> property;
+
+        /**
+         * Strongly references the listener, also if it is registered with a
+         * weak wrapper.
+         */
+        private final ChangeListener<T> listener;
+        private final ChangeListener<T> registeredListener;
+
+        private ListenerRegistration(Binding<?, ?> binding, ObservableValue<T> property, ChangeListener<T> listener,
+                boolean weak) {
+            this.binding = binding;
+            this.property = property;
+            this.listener = listener;
+            this.registeredListener = weak ? new WeakChangeListener<T>( listener ) : listener;
+
+            property.addListener( registeredListener );
+        }
+
+        private void remove() {
+            property.removeListener( registeredListener );
+        }
+    }
+
 }
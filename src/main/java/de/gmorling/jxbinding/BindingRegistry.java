@@ -0,0 +1,159 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Manages the bindings of a context in the order of their registration and
+ * indexes them by model property, model bean, target property, group and id.
+ * All lookups return snapshots, so callers may add or remove bindings, e.g.
+ * by disposing them, while iterating over the result of a lookup.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+/* package private */class BindingRegistry {
+
+    private final Set<Binding<?, ?>> bindings = new LinkedHashSet<Binding<?, ?>>();
+
+    private final Map<Object, List<Binding<?, ?>>> bindingsByModelProperty = new IdentityHashMap<Object, List<Binding<?, ?>>>();
+
+    private final Map<Object, List<Binding<?, ?>>> bindingsByBean = new IdentityHashMap<Object, List<Binding<?, ?>>>();
+
+    private final Map<Object, List<Binding<?, ?>>> bindingsByTargetProperty = new IdentityHashMap<Object, List<Binding<?, ?>>>();
+
+    private final Map<String, List<Binding<?, ?>>> bindingsByGroup = new HashMap<String, List<Binding<?, ?>>>();
+
+    private final Map<String, Binding<?, ?>> bindingsById = new HashMap<String, Binding<?, ?>>();
+
+    public boolean add(Binding<?, ?> binding) {
+
+        if ( !bindings.add( binding ) ) {
+            return false;
+        }
+
+        addToIndex( bindingsByModelProperty, binding.modelProperty(), binding );
+        if ( binding.modelProperty().getBean() != null ) {
+            addToIndex( bindingsByBean, binding.modelProperty().getBean(), binding );
+        }
+        addToIndex( bindingsByTargetProperty, binding.targetProperty(), binding );
+        if ( binding.getGroup() != null ) {
+            addToIndex( bindingsByGroup, binding.getGroup(), binding );
+        }
+        if ( binding.getId() != null ) {
+            bindingsById.put( binding.getId(), binding );
+        }
+
+        return true;
+    }
+
+    public boolean remove(Binding<?, ?> binding) {
+
+        if ( !bindings.remove( binding ) ) {
+            return false;
+        }
+
+        removeFromIndex( bindingsByModelProperty, binding.modelProperty(), binding );
+        if ( binding.modelProperty().getBean() != null ) {
+            removeFromIndex( bindingsByBean, binding.modelProperty().getBean(), binding );
+        }
+        removeFromIndex( bindingsByTargetProperty, binding.targetProperty(), binding );
+        if ( binding.getGroup() != null ) {
+            removeFromIndex( bindingsByGroup, binding.getGroup(), binding );
+        }
+        if ( binding.getId() != null ) {
+            bindingsById.remove( binding.getId() );
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns all bindings in the order of their registration.
+     */
+    public Collection<Binding<?, ?>> getAll() {
+        return Collections.unmodifiableList( new ArrayList<Binding<?, ?>>( bindings ) );
+    }
+
+    public List<Binding<?, ?>> getByModelProperty(Object modelProperty) {
+        return getFromIndex( bindingsByModelProperty, modelProperty );
+    }
+
+    /**
+     * Returns the bindings whose model property belongs to the given bean.
+     */
+    public List<Binding<?, ?>> getByBean(Object bean) {
+        return getFromIndex( bindingsByBean, bean );
+    }
+
+    public List<Binding<?, ?>> getByTargetProperty(Object targetProperty) {
+        return getFromIndex( bindingsByTargetProperty, targetProperty );
+    }
+
+    public List<Binding<?, ?>> getByGroup(String group) {
+        return getFromIndex( bindingsByGroup, group );
+    }
+
+    public Binding<?, ?> getById(String id) {
+        return bindingsById.get( id );
+    }
+
+    public int size() {
+        return bindings.size();
+    }
+
+    private <K> void addToIndex(Map<K, List<Binding<?, ?>>> index, K key, Binding<?, ?> binding) {
+
+        List<Binding<?, ?>> bindingsOfKey = index.get( key );
+
+        if ( bindingsOfKey == null ) {
+            bindingsOfKey = new ArrayList<Binding<?, ?>>( 1 );
+            index.put( key, bindingsOfKey );
+        }
+
+        bindingsOfKey.add( binding );
+    }
+
+    private <K> void removeFromIndex(Map<K, List<Binding<?, ?>>> index, K key, Binding<?, ?> binding) {
+
+        List<Binding<?, ?>> bindingsOfKey = index.get( key );
+
+        if ( bindingsOfKey != null ) {
+            bindingsOfKey.remove( binding );
+            if ( bindingsOfKey.isEmpty() ) {
+                index.remove( key );
+            }
+        }
+    }
+
+    private <K> List<Binding<?, ?>> getFromIndex(Map<K, List<Binding<?, ?>>> index, K key) {
+
+        List<Binding<?, ?>> bindingsOfKey = index.get( key );
+
+        return bindingsOfKey != null ? Collections.unmodifiableList( new ArrayList<Binding<?, ?>>( bindingsOfKey ) )
+                : Collections.<Binding<?, ?>> emptyList();
+    }
+
+}
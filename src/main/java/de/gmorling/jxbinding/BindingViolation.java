@@ -6,13 +6,27 @@ public class BindingViolation {
 
     private final String message;
 
+    private final String propertyPath;
+
+    private final String constraintType;
+
+    private final Object invalidValue;
+
     public BindingViolation(String message) {
         this( null, message );
     }
 
     public BindingViolation(String label, String message) {
+        this( label, message, null, null, null );
+    }
+
+    public BindingViolation(String label, String message, String propertyPath, String constraintType,
+            Object invalidValue) {
         this.label = label;
         this.message = message;
+        this.propertyPath = propertyPath;
+        this.constraintType = constraintType;
+        this.invalidValue = invalidValue;
     }
 
     public String getLabel() {
@@ -23,9 +37,56 @@ public class BindingViolation {
         return message;
     }
 
+    /**
+     * Returns the path of the violated property, if known.
+     */
+    public String getPropertyPath() {
+        return propertyPath;
+    }
+
+    /**
+     * Returns the simple name of the violated constraint's annotation type, if
+     * known.
+     */
+    public String getConstraintType() {
+        return constraintType;
+    }
+
+    public Object getInvalidValue() {
+        return invalidValue;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) {
+            return true;
+        }
+        if ( obj == null || getClass() != obj.getClass() ) {
+            return false;
+        }
+        BindingViolation other = (BindingViolation) obj;
+        return equals( label, other.label ) && equals( message, other.message )
+                && equals( propertyPath, other.propertyPath ) && equals( constraintType, other.constraintType )
+                && equals( invalidValue, other.invalidValue );
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 17;
+        hash = 31 * hash + ( label != null ? label.hashCode() : 0 );
+        hash = 31 * hash + ( message != null ? message.hashCode() : 0 );
+        hash = 31 * hash + ( propertyPath != null ? propertyPath.hashCode() : 0 );
+        return hash;
+    }
+
+    private static boolean equals(Object o1, Object o2) {
+        return o1 == null ? o2 == null : o1.equals( o2 );
+    }
+
     @Override
     public String toString() {
-        return "BindingViolation [label=" + label + ", message=" + message + "]";
+        return "BindingViolation [label=" + label + ", message=" + message + ", propertyPath=" + propertyPath
+                + ", constraintType=" + constraintType + "]";
     }
 
 }
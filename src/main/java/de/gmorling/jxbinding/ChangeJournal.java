@@ -0,0 +1,339 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+
+/**
+ * A bounded journal of the model writes done by the bindings of a context,
+ * which allows to undo and redo these writes. Only the written property
+ * together with its old and new value is kept per write, so no copies of the
+ * model are required. Consecutive writes to the same property within a given
+ * interval (e.g. the keystrokes of a user typing into a text field) are
+ * coalesced into one entry. If the journal is full, the oldest entry is
+ * discarded.
+ * <p>
+ * A journal is not thread-safe and must only be used on the JavaFX application
+ * thread.
+ * </p>
+ * 
+ * @author Gunnar Morling
+ * @see BindingContext#setChangeJournal(ChangeJournal)
+ */
+public class ChangeJournal {
+
+    public final static long DEFAULT_COALESCING_MILLIS = 1000;
+
+    private final int maxSize;
+
+    private final long coalescingNanos;
+
+    // the entries, stored in a ring buffer of parallel arrays
+    private final Binding<?, ?>[] bindings;
+    private final Object[] oldValues;
+    private final Object[] newValues;
+    private final long[] timestamps;
+
+    /**
+     * Index of the oldest entry.
+     */
+    private int start;
+
+    private int size;
+
+    /**
+     * The number of entries which currently are applied; the entries after
+     * that can be redone.
+     */
+    private int position;
+
+    /**
+     * Whether the next write may be coalesced with the last applied entry,
+     * i.e. no undo or redo happened since that entry was recorded.
+     */
+    private boolean coalescable;
+
+    /**
+     * Whether the journal currently writes a model property itself.
+     */
+    private boolean replaying;
+
+    private final BooleanProperty canUndo = new SimpleBooleanProperty( false );
+
+    private final BooleanProperty canRedo = new SimpleBooleanProperty( false );
+
+    /**
+     * Creates a journal with the given maximum number of entries, which
+     * coalesces writes to the same property done within
+     * {@link #DEFAULT_COALESCING_MILLIS}.
+     */
+    public ChangeJournal(int maxSize) {
+        this( maxSize, DEFAULT_COALESCING_MILLIS );
+    }
+
+    /**
+     * Creates a journal with the given maximum number of entries, which
+     * coalesces consecutive writes to the same property done within the given
+     * interval. Passing 0 disables coalescing.
+     */
+    public ChangeJournal(int maxSize, long coalescingMillis) {
+
+        if ( maxSize <= 0 ) {
+            throw new IllegalArgumentException( "Maximum size must be positive, but was " + maxSize );
+        }
+        if ( coalescingMillis < 0 ) {
+            throw new IllegalArgumentException( "Coalescing interval must not be negative, but was "
+                    + coalescingMillis );
+        }
+
+        this.maxSize = maxSize;
+        this.coalescingNanos = coalescingMillis * 1000000;
+
+        bindings = new Binding<?, ?>[maxSize];
+        oldValues = new Object[maxSize];
+        newValues = new Object[maxSize];
+        timestamps = new long[maxSize];
+    }
+
+    /**
+     * Records the write of the given value to the model property of the given
+     * binding.
+     */
+    /* package private */void record(Binding<?, ?> binding, Object oldValue, Object newValue) {
+
+        if ( replaying || equals( oldValue, newValue ) ) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        // any undone entries can't be redone anymore
+        clear( position, size );
+        size = position;
+
+        int last = index( position - 1 );
+
+        if ( coalescable && position > 0 && bindings[last] == binding && now - timestamps[last] <= coalescingNanos ) {
+
+            newValues[last] = newValue;
+            timestamps[last] = now;
+
+            // the property was changed back to its original value
+            if ( equals( oldValues[last], newValue ) ) {
+                clear( position - 1, position );
+                size--;
+                position--;
+                coalescable = false;
+            }
+        }
+        else {
+            if ( size == maxSize ) {
+                clear( 0, 1 );
+                start = index( 1 );
+                size--;
+                position--;
+            }
+
+            int index = index( size );
+            bindings[index] = binding;
+            oldValues[index] = oldValue;
+            newValues[index] = newValue;
+            timestamps[index] = now;
+            size++;
+            position++;
+            coalescable = true;
+        }
+
+        updateProperties();
+    }
+
+    /**
+     * Reverts the last applied entry by writing the old value to its model
+     * property and updating the target property from it.
+     * 
+     * @return <code>true</code> if an entry was reverted, <code>false</code>
+     *         if there was nothing to undo.
+     */
+    public boolean undo() {
+
+        if ( position == 0 ) {
+            return false;
+        }
+
+        int index = index( position - 1 );
+        position--;
+        coalescable = false;
+
+        write( bindings[index], oldValues[index] );
+        updateProperties();
+
+        return true;
+    }
+
+    /**
+     * Re-applies the last reverted entry by writing the new value to its model
+     * property and updating the target property from it.
+     * 
+     * @return <code>true</code> if an entry was re-applied, <code>false</code>
+     *         if there was nothing to redo.
+     */
+    public boolean redo() {
+
+        if ( position == size ) {
+            return false;
+        }
+
+        int index = index( position );
+        position++;
+        coalescable = false;
+
+        write( bindings[index], newValues[index] );
+        updateProperties();
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(Binding<?, ?> binding, Object value) {
+
+        replaying = true;
+
+        try {
+            ( (Property<Object>) binding.modelProperty() ).setValue( value );
+            binding.updateTargetProperty();
+        }
+        finally {
+            replaying = false;
+        }
+    }
+
+    /**
+     * Removes all entries of the given binding, e.g. because it was disposed.
+     */
+    /* package private */void discard(Binding<?, ?> binding) {
+
+        int retained = 0;
+        int retainedPosition = 0;
+
+        for ( int i = 0; i < size; i++ ) {
+
+            int from = index( i );
+
+            if ( bindings[from] == binding ) {
+                continue;
+            }
+
+            int to = index( retained );
+            bindings[to] = bindings[from];
+            oldValues[to] = oldValues[from];
+            newValues[to] = newValues[from];
+            timestamps[to] = timestamps[from];
+
+            retained++;
+            if ( i < position ) {
+                retainedPosition++;
+            }
+        }
+
+        if ( retained == size ) {
+            return;
+        }
+
+        clear( retained, size );
+        size = retained;
+        position = retainedPosition;
+        coalescable = false;
+
+        updateProperties();
+    }
+
+    /**
+     * Removes all entries, e.g. after the model was saved.
+     */
+    public void clear() {
+        clear( 0, size );
+        size = 0;
+        position = 0;
+        coalescable = false;
+
+        updateProperties();
+    }
+
+    /**
+     * Returns the number of entries, including those which can be redone.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public ReadOnlyBooleanProperty canUndoProperty() {
+        return canUndo;
+    }
+
+    public boolean canUndo() {
+        return canUndo.get();
+    }
+
+    public ReadOnlyBooleanProperty canRedoProperty() {
+        return canRedo;
+    }
+
+    public boolean canRedo() {
+        return canRedo.get();
+    }
+
+    private void updateProperties() {
+        canUndo.set( position > 0 );
+        canRedo.set( position < size );
+    }
+
+    /**
+     * Releases the entries in the given range, relative to the oldest entry.
+     */
+    private void clear(int from, int to) {
+        for ( int i = from; i < to; i++ ) {
+            int index = index( i );
+            bindings[index] = null;
+            oldValues[index] = null;
+            newValues[index] = null;
+        }
+    }
+
+    /**
+     * Returns the array index of the given entry, relative to the oldest
+     * entry.
+     */
+    private int index(int entry) {
+        return ( start + entry + maxSize ) % maxSize;
+    }
+
+    private static boolean equals(Object o1, Object o2) {
+        return o1 == null ? o2 == null : o1.equals( o2 );
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeJournal [size=" + size + ", position=" + position + ", maxSize=" + maxSize + "]";
+    }
+
+}
@@ -0,0 +1,549 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only journal of the target values of bindings, which allows to
+ * restore a draft of a form after the application crashed. The journal is
+ * backed by a memory-mapped file, so written records survive a crash of the
+ * application process without being forced to disk.
+ * <p>
+ * Changes of target values are collected on the JavaFX application thread and
+ * written in batches by a shared background thread, so each change costs a
+ * map insertion only. Records are keyed by the id of their binding, which thus
+ * must be stable across application runs. Only the values of bindings with an
+ * id and a {@link javafx.beans.property.StringProperty} as target (e.g. the
+ * text of a text field) are journaled.
+ * </p>
+ * <p>
+ * Records are appended to the active region of the file, whose bounds are
+ * kept in the file header. If the region is full, the latest value per
+ * binding is written to a free region (growing the file if required), which
+ * only then is made the active one by updating the header. So a crash during
+ * compaction never loses the draft.
+ * </p>
+ * <p>
+ * The journal should be cleared once the form was saved and closed when the
+ * form is closed.
+ * </p>
+ * 
+ * @author Gunnar Morling
+ * @see BindingContext#setDraftJournal(DraftJournal)
+ * @see BindingContext#restoreDraft(DraftJournal)
+ */
+public class DraftJournal implements Closeable {
+
+    public final static long DEFAULT_WRITE_DELAY_MILLIS = 500;
+
+    private final static int DEFAULT_INITIAL_CAPACITY = 64 * 1024;
+
+    private final static int MAGIC = 0x4A584446;
+
+    private final static int VERSION = 2;
+
+    /**
+     * Magic number, version and start and limit of the active region.
+     */
+    private final static int HEADER_LENGTH = 16;
+
+    private final static int REGION_OFFSET = 8;
+
+    /**
+     * Marks the end of the records of a region.
+     */
+    private final static int END_OF_RECORDS = 0;
+
+    private final static int NULL_LENGTH = -1;
+
+    private final static String ENCODING = "UTF-8";
+
+    private static final Logger logger = LoggerFactory.getLogger( DraftJournal.class );
+
+    private final long writeDelayMillis;
+
+    /**
+     * Guards the file and the values written to it.
+     */
+    private final Object fileLock = new Object();
+
+    private final RandomAccessFile file;
+
+    private MappedByteBuffer buffer;
+
+    /**
+     * The start of the region records are appended to, its end is the limit
+     * of the buffer.
+     */
+    private int regionStart;
+
+    /**
+     * The latest written value per binding id.
+     */
+    private final Map<String, String> writtenValues = new LinkedHashMap<String, String>();
+
+    /**
+     * Guards the pending values, the write flag and the closed flag.
+     */
+    private final Object pendingLock = new Object();
+
+    /**
+     * The values not yet written, guarded by {@link #pendingLock}.
+     */
+    private Map<String, String> pendingValues = new LinkedHashMap<String, String>();
+
+    private boolean writeScheduled;
+
+    private boolean closed;
+
+    /**
+     * Opens the journal stored in the given file, creating the file if it
+     * doesn't exist yet. Records are written
+     * {@link #DEFAULT_WRITE_DELAY_MILLIS} after the first change of a batch.
+     */
+    public DraftJournal(File file) throws IOException {
+        this( file, DEFAULT_WRITE_DELAY_MILLIS );
+    }
+
+    /**
+     * Opens the journal stored in the given file, creating the file if it
+     * doesn't exist yet. Records are written the given time after the first
+     * change of a batch.
+     */
+    public DraftJournal(File file, long writeDelayMillis) throws IOException {
+        this( file, writeDelayMillis, DEFAULT_INITIAL_CAPACITY );
+    }
+
+    /* package private */DraftJournal(File file, long writeDelayMillis, int initialCapacity) throws IOException {
+
+        if ( writeDelayMillis < 0 ) {
+            throw new IllegalArgumentException( "Write delay must not be negative, but was " + writeDelayMillis );
+        }
+
+        this.writeDelayMillis = writeDelayMillis;
+        this.file = new RandomAccessFile( file, "rw" );
+
+        try {
+            map( Math.max( initialCapacity, (int) this.file.length() ) );
+            read();
+        }
+        catch ( IOException e ) {
+            this.file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the records of the file, stopping at the first incomplete record,
+     * which may have been written when the application crashed.
+     */
+    private void read() {
+
+        int start = buffer.getInt( REGION_OFFSET );
+        int limit = buffer.getInt( REGION_OFFSET + 4 );
+
+        if ( buffer.getInt( 0 ) != MAGIC || buffer.getInt( 4 ) != VERSION || start < HEADER_LENGTH || limit < start
+                || limit > buffer.capacity() ) {
+            writeHeader();
+            return;
+        }
+
+        regionStart = start;
+        buffer.limit( limit );
+        buffer.position( start );
+
+        try {
+            while ( buffer.remaining() >= 4 ) {
+
+                start = buffer.position();
+                int length = buffer.getInt();
+
+                if ( length <= 0 || length > buffer.remaining() ) {
+                    break;
+                }
+
+                String id = readString();
+                String value = readString();
+
+                if ( id == null || buffer.position() != start + 4 + length ) {
+                    break;
+                }
+
+                writtenValues.put( id, value );
+                start = buffer.position();
+            }
+        }
+        catch ( BufferUnderflowException e ) {
+            logger.warn( "Ignoring incomplete record in draft journal" );
+        }
+        catch ( UnsupportedEncodingException e ) {
+            throw new IllegalStateException( e );
+        }
+
+        buffer.position( start );
+
+        // discard any incomplete record, so it isn't mistaken as complete once
+        // overwritten partially
+        if ( buffer.remaining() >= 4 ) {
+            buffer.putInt( start, END_OF_RECORDS );
+        }
+    }
+
+    private String readString() throws UnsupportedEncodingException {
+
+        int length = buffer.getInt();
+
+        if ( length == NULL_LENGTH ) {
+            return null;
+        }
+        if ( length < 0 || length > buffer.remaining() ) {
+            throw new BufferUnderflowException();
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get( bytes );
+
+        return new String( bytes, ENCODING );
+    }
+
+    /**
+     * Notifies this journal about the changed target value of the binding
+     * with the given id. Invoked on the JavaFX application thread.
+     */
+    /* package private */void targetChanged(String id, String value) {
+
+        synchronized ( pendingLock ) {
+
+            if ( closed ) {
+                return;
+            }
+
+            pendingValues.put( id, value );
+
+            if ( writeScheduled ) {
+                return;
+            }
+
+            writeScheduled = true;
+        }
+
+        WriterHolder.WRITER.schedule( new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    flush();
+                }
+                catch ( IOException e ) {
+                    logger.error( "Couldn't write draft journal", e );
+                }
+            }
+        }, writeDelayMillis, TimeUnit.MILLISECONDS );
+    }
+
+    /**
+     * Writes all pending changes to the file. Invoked by the background
+     * thread, but may be invoked by any thread, e.g. to write the changes
+     * immediately.
+     */
+    public void flush() throws IOException {
+
+        Map<String, String> values;
+
+        synchronized ( pendingLock ) {
+            values = pendingValues;
+            pendingValues = new LinkedHashMap<String, String>();
+            writeScheduled = false;
+        }
+
+        if ( values.isEmpty() ) {
+            return;
+        }
+
+        synchronized ( fileLock ) {
+
+            if ( buffer == null ) {
+                return;
+            }
+
+            for ( Entry<String, String> oneValue : values.entrySet() ) {
+
+                String id = oneValue.getKey();
+                String value = oneValue.getValue();
+
+                if ( writtenValues.containsKey( id ) && equals( writtenValues.get( id ), value ) ) {
+                    continue;
+                }
+
+                writeRecord( encode( id ), encode( value ) );
+
+                writtenValues.remove( id );
+                writtenValues.put( id, value );
+            }
+        }
+    }
+
+    private void writeRecord(byte[] id, byte[] value) throws IOException {
+
+        int length = 4 + id.length + 4 + ( value != null ? value.length : 0 );
+
+        if ( buffer.remaining() < 4 + length + 4 ) {
+            compact( 4 + length + 4 );
+        }
+
+        int start = buffer.position();
+
+        // write the length last, so an incomplete record is recognized as
+        // such upon reading; stale records from an earlier use of the region
+        // are cut off by the end marker
+        buffer.position( start + 4 );
+        writeBytes( id );
+        writeBytes( value );
+        buffer.putInt( buffer.position(), END_OF_RECORDS );
+        buffer.putInt( start, length );
+    }
+
+    private void writeBytes(byte[] bytes) {
+
+        if ( bytes == null ) {
+            buffer.putInt( NULL_LENGTH );
+        }
+        else {
+            buffer.putInt( bytes.length );
+            buffer.put( bytes );
+        }
+    }
+
+    /**
+     * Writes the latest value per binding to a free region of the file, which
+     * leaves at least the required number of bytes, and makes it the active
+     * region. The free region is the one in front of the active region if
+     * that is large enough, otherwise the one behind it, growing the file if
+     * required. The active region is left untouched until the header refers
+     * to the new one.
+     */
+    private void compact(int required) throws IOException {
+
+        int needed = 4 + required * 2;
+        for ( Entry<String, String> oneValue : writtenValues.entrySet() ) {
+            needed += 12 + encode( oneValue.getKey() ).length
+                    + ( oneValue.getValue() != null ? encode( oneValue.getValue() ).length : 0 );
+        }
+
+        int start;
+        int limit;
+
+        if ( regionStart - HEADER_LENGTH >= needed ) {
+            start = HEADER_LENGTH;
+            limit = regionStart;
+        }
+        else {
+            start = buffer.limit();
+
+            int capacity = buffer.capacity();
+            while ( capacity - start < needed ) {
+                capacity *= 2;
+            }
+
+            if ( capacity != buffer.capacity() ) {
+                map( capacity );
+            }
+
+            limit = capacity;
+        }
+
+        buffer.limit( limit );
+        buffer.position( start );
+        buffer.putInt( start, END_OF_RECORDS );
+
+        for ( Entry<String, String> oneValue : writtenValues.entrySet() ) {
+            writeRecord( encode( oneValue.getKey() ), encode( oneValue.getValue() ) );
+        }
+
+        // switch to the new region only once its records are on disk
+        buffer.force();
+        writeRegion( start, limit );
+        buffer.force();
+    }
+
+    /**
+     * Discards the draft, e.g. because the form was saved.
+     */
+    public void clear() {
+
+        synchronized ( pendingLock ) {
+            pendingValues.clear();
+        }
+
+        synchronized ( fileLock ) {
+
+            if ( buffer == null ) {
+                return;
+            }
+
+            buffer.putInt( regionStart, END_OF_RECORDS );
+            buffer.position( regionStart );
+            writtenValues.clear();
+        }
+    }
+
+    /**
+     * Returns the latest target values by binding id, including those not
+     * written yet.
+     */
+    public Map<String, String> getDraft() {
+
+        Map<String, String> draft;
+
+        synchronized ( fileLock ) {
+            draft = new LinkedHashMap<String, String>( writtenValues );
+        }
+
+        synchronized ( pendingLock ) {
+            draft.putAll( pendingValues );
+        }
+
+        return Collections.unmodifiableMap( draft );
+    }
+
+    /**
+     * Whether this journal contains any values, e.g. because the application
+     * crashed before the draft was saved.
+     */
+    public boolean hasDraft() {
+        return !getDraft().isEmpty();
+    }
+
+    /**
+     * Writes all pending changes, forces them to disk and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+
+        // no changes are accepted once closed, so none can arrive after the
+        // final flush
+        synchronized ( pendingLock ) {
+
+            if ( closed ) {
+                return;
+            }
+
+            closed = true;
+        }
+
+        flush();
+
+        synchronized ( fileLock ) {
+            buffer.force();
+            buffer = null;
+            file.close();
+        }
+    }
+
+    private void map(int capacity) throws IOException {
+
+        int position = buffer != null ? buffer.position() : 0;
+        int limit = buffer != null ? buffer.limit() : capacity;
+
+        FileChannel channel = file.getChannel();
+        buffer = channel.map( MapMode.READ_WRITE, 0, capacity );
+        buffer.limit( limit );
+        buffer.position( position );
+    }
+
+    /**
+     * Initializes a new file, using the first half of it as active region, so
+     * the first compaction doesn't require to grow the file.
+     */
+    private void writeHeader() {
+
+        int start = HEADER_LENGTH;
+        int limit = start + ( buffer.capacity() - start ) / 2;
+
+        buffer.putInt( 0, MAGIC );
+        buffer.putInt( 4, VERSION );
+        buffer.putInt( start, END_OF_RECORDS );
+        buffer.limit( limit );
+        buffer.position( start );
+        writeRegion( start, limit );
+    }
+
+    /**
+     * Makes the given region the active one. Start and limit are written at
+     * once, so the header never refers to a mix of two regions.
+     */
+    private void writeRegion(int start, int limit) {
+        buffer.putLong( REGION_OFFSET, ( (long) start << 32 ) | ( limit & 0xFFFFFFFFL ) );
+        regionStart = start;
+    }
+
+    private static byte[] encode(String value) {
+
+        if ( value == null ) {
+            return null;
+        }
+
+        try {
+            return value.getBytes( ENCODING );
+        }
+        catch ( UnsupportedEncodingException e ) {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private static boolean equals(Object o1, Object o2) {
+        return o1 == null ? o2 == null : o1.equals( o2 );
+    }
+
+    private static class WriterHolder {
+
+        private final static ScheduledExecutorService WRITER = createWriter();
+
+        private static ScheduledExecutorService createWriter() {
+
+            return new ScheduledThreadPoolExecutor( 1, new ThreadFactory() {
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread( r, "jx-binding-draft-writer" );
+                    thread.setDaemon( true );
+                    return thread;
+                }
+            } );
+        }
+    }
+
+}
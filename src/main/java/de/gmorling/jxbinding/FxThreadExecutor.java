@@ -0,0 +1,46 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import java.util.concurrent.Executor;
+
+import javafx.application.Platform;
+
+/**
+ * An executor which runs tasks on the JavaFX application thread.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+/* package private */class FxThreadExecutor implements Executor {
+
+    public final static FxThreadExecutor INSTANCE = new FxThreadExecutor();
+
+    private FxThreadExecutor() {
+    }
+
+    @Override
+    public void execute(Runnable command) {
+
+        if ( Platform.isFxApplicationThread() ) {
+            command.run();
+        }
+        else {
+            Platform.runLater( command );
+        }
+    }
+
+}
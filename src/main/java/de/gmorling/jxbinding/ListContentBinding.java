@@ -0,0 +1,337 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+
+import javax.validation.ConstraintViolation;
+
+import de.gmorling.jxbinding.converter.ConversionException;
+import de.gmorling.jxbinding.converter.Converter;
+import de.gmorling.jxbinding.validation.ConstraintMetadataCache;
+
+/**
+ * Binds the elements of an {@link ObservableList} model to a target list,
+ * converting each element with a given converter. Changes of the model are
+ * propagated incrementally, i.e. only the added, removed, replaced,
+ * permutated or updated range of the list is converted, and the target list
+ * is modified accordingly. The target list should not be modified otherwise.
+ * <p>
+ * Each model element which is a constrained bean is validated upon being
+ * added or updated. The violations of single elements can be retrieved via
+ * {@link #getElementViolations(int)}, while
+ * {@link #targetConstraintViolationsProperty()} provides the violations of
+ * all elements.
+ * </p>
+ * 
+ * @author Gunnar Morling
+ * 
+ * @param <M> The element type of the model list.
+ * @param <T> The element type of the target list.
+ */
+public class ListContentBinding<M, T> {
+
+    private final ObservableList<M> modelList;
+    private final ObservableList<T> targetList;
+    private final Converter<M, T> elementConverter;
+    private final BindingContext context;
+    private final String labelText;
+
+    /**
+     * The state of each element, in the order of the model list.
+     */
+    private final List<ElementState> elementStates = new ArrayList<ElementState>();
+
+    /**
+     * The elements with violations, in the order they became invalid.
+     */
+    private final Set<ElementState> invalidElements = new LinkedHashSet<ElementState>();
+
+    private final ObjectProperty<List<BindingViolation>> targetConstraintViolations = new SimpleObjectProperty<List<BindingViolation>>(
+            Collections.<BindingViolation> emptyList() );
+
+    private final ListChangeListener<M> listener = new ListChangeListener<M>() {
+
+        @Override
+        public void onChanged(Change<? extends M> change) {
+            modelChanged( change );
+        }
+    };
+
+    private final ListChangeListener<M> registeredListener;
+
+    private boolean disposed;
+
+    /* package private */ListContentBinding(ObservableList<M> modelList, ObservableList<T> targetList,
+            Converter<M, T> elementConverter, BindingContext context, String labelText) {
+
+        this.modelList = modelList;
+        this.targetList = targetList;
+        this.elementConverter = elementConverter;
+        this.context = context;
+        this.labelText = labelText;
+
+        registeredListener = context.isUsingWeakListeners() ? new WeakListChangeListener<M>( listener ) : listener;
+        modelList.addListener( registeredListener );
+
+        updateTarget();
+    }
+
+    public ObservableList<M> getModelList() {
+        return modelList;
+    }
+
+    public ObservableList<T> getTargetList() {
+        return targetList;
+    }
+
+    /**
+     * Converts all elements of the model list and replaces the elements of the
+     * target list with them.
+     */
+    public void updateTarget() {
+
+        elementStates.clear();
+        invalidElements.clear();
+
+        targetList.setAll( convert( modelList, 0 ) );
+
+        publishViolations();
+    }
+
+    /**
+     * Returns the violations of the model element at the given index.
+     */
+    public List<BindingViolation> getElementViolations(int index) {
+        return elementStates.get( index ).violations;
+    }
+
+    public ReadOnlyObjectProperty<List<BindingViolation>> targetConstraintViolationsProperty() {
+        return targetConstraintViolations;
+    }
+
+    /**
+     * Disposes this binding, i.e. changes of the model list aren't propagated
+     * anymore and the binding is removed from its context.
+     */
+    public void dispose() {
+
+        if ( disposed ) {
+            return;
+        }
+
+        disposed = true;
+        modelList.removeListener( registeredListener );
+        context.removeListContentBinding( this );
+    }
+
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    private void modelChanged(ListChangeListener.Change<? extends M> change) {
+
+        boolean violationsChanged = false;
+
+        while ( change.next() ) {
+
+            int from = change.getFrom();
+            int to = change.getTo();
+
+            if ( change.wasPermutated() ) {
+                permutate( change, from, to );
+            }
+            // a replacement of the same number of elements, e.g. the edit of
+            // a row, is applied in place, so neither list is shifted
+            else if ( change.wasUpdated()
+                    || ( change.wasReplaced() && change.getRemovedSize() == change.getAddedSize() ) ) {
+                for ( int i = from; i < to; i++ ) {
+                    ElementState state = elementStates.get( i );
+                    targetList.set( i, convert( modelList.get( i ), state ) );
+                    violationsChanged |= updateValidity( state );
+                }
+            }
+            else {
+                if ( change.wasRemoved() ) {
+                    List<ElementState> removedStates = elementStates.subList( from, from + change.getRemovedSize() );
+
+                    for ( ElementState removedState : removedStates ) {
+                        violationsChanged |= invalidElements.remove( removedState );
+                    }
+
+                    removedStates.clear();
+                    targetList.remove( from, from + change.getRemovedSize() );
+                }
+                if ( change.wasAdded() ) {
+                    int invalidCount = invalidElements.size();
+                    targetList.addAll( from, convert( change.getAddedSubList(), from ) );
+                    violationsChanged |= invalidElements.size() != invalidCount;
+                }
+            }
+        }
+
+        if ( violationsChanged ) {
+            publishViolations();
+        }
+    }
+
+    private void permutate(ListChangeListener.Change<? extends M> change, int from, int to) {
+
+        List<T> permutatedElements = new ArrayList<T>( targetList.subList( from, to ) );
+        List<ElementState> permutatedStates = new ArrayList<ElementState>( elementStates.subList( from, to ) );
+
+        for ( int i = from; i < to; i++ ) {
+            int newIndex = change.getPermutation( i );
+            permutatedElements.set( newIndex - from, targetList.get( i ) );
+            permutatedStates.set( newIndex - from, elementStates.get( i ) );
+        }
+
+        for ( int i = from; i < to; i++ ) {
+            elementStates.set( i, permutatedStates.get( i - from ) );
+        }
+
+        targetList.remove( from, to );
+        targetList.addAll( from, permutatedElements );
+    }
+
+    /**
+     * Converts the given model elements, which are inserted at the given
+     * index, and creates their element states.
+     */
+    private List<T> convert(List<? extends M> elements, int index) {
+
+        List<T> converted = new ArrayList<T>( elements.size() );
+        List<ElementState> states = new ArrayList<ElementState>( elements.size() );
+
+        for ( M element : elements ) {
+            ElementState state = new ElementState();
+            converted.add( convert( element, state ) );
+            updateValidity( state );
+            states.add( state );
+        }
+
+        elementStates.addAll( index, states );
+
+        return converted;
+    }
+
+    /**
+     * Converts and validates the given element, storing the violations in the
+     * given state.
+     */
+    private T convert(M element, ElementState state) {
+
+        try {
+            state.violations = validate( element );
+            return elementConverter.toTarget( element );
+        }
+        catch ( ConversionException ce ) {
+            String message = ce.getBindingViolation() != null ? ce.getBindingViolation().getMessage() : ce
+                    .getMessage();
+            state.violations = Collections.singletonList( new BindingViolation( labelText, message, null, null,
+                    element ) );
+            return null;
+        }
+    }
+
+    private List<BindingViolation> validate(M element) {
+
+        if ( element == null ) {
+            return Collections.emptyList();
+        }
+
+        ConstraintMetadataCache constraintMetadata = context.getConstraintMetadata();
+
+        if ( !constraintMetadata.getBeanDescriptor( element.getClass() ).isBeanConstrained() ) {
+            return Collections.emptyList();
+        }
+
+        Set<ConstraintViolation<M>> violations = constraintMetadata.getValidator().validate( element );
+
+        if ( violations.isEmpty() ) {
+            return Collections.emptyList();
+        }
+
+        List<BindingViolation> bindingViolations = new ArrayList<BindingViolation>( violations.size() );
+
+        for ( ConstraintViolation<M> violation : violations ) {
+            bindingViolations.add( new BindingViolation( labelText, violation.getMessage(), violation
+                    .getPropertyPath().toString(), violation.getConstraintDescriptor().getAnnotation()
+                    .annotationType().getSimpleName(), violation.getInvalidValue() ) );
+        }
+
+        return Collections.unmodifiableList( bindingViolations );
+    }
+
+    /**
+     * Updates the set of invalid elements according to the violations of the
+     * given element.
+     * 
+     * @return Whether the violations of this binding changed.
+     */
+    private boolean updateValidity(ElementState state) {
+
+        if ( state.violations.isEmpty() ) {
+            return invalidElements.remove( state );
+        }
+
+        invalidElements.add( state );
+        return true;
+    }
+
+    private void publishViolations() {
+
+        if ( invalidElements.isEmpty() ) {
+            targetConstraintViolations.set( Collections.<BindingViolation> emptyList() );
+            return;
+        }
+
+        List<BindingViolation> violations = new ArrayList<BindingViolation>();
+
+        for ( ElementState invalidElement : invalidElements ) {
+            violations.addAll( invalidElement.violations );
+        }
+
+        targetConstraintViolations.set( Collections.unmodifiableList( violations ) );
+    }
+
+    @Override
+    public String toString() {
+        return "ListContentBinding [modelList size=" + modelList.size() + ", targetList size=" + targetList.size()
+                + "]";
+    }
+
+    /**
+     * The state of one list element. Compared by identity, so the states of
+     * equal elements can be told apart.
+     */
+    private static class ElementState {
+
+        private List<BindingViolation> violations = Collections.emptyList();
+    }
+
+}
@@ -0,0 +1,231 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.ReadOnlyStringProperty;
+
+import de.gmorling.jxbinding.converter.Converter;
+import de.gmorling.jxbinding.converter.DoubleTextConverter;
+import de.gmorling.jxbinding.converter.IntTextConverter;
+import de.gmorling.jxbinding.converter.LongTextConverter;
+
+/**
+ * Converts between a numeric model property and a text target property
+ * without boxing the model value. Used by bindings instead of the boxing
+ * {@link Converter} contract if the binding's converter supports primitive
+ * values. The most recently parsed value is kept by this object, so an
+ * instance must only be accessed from the FX thread.
+ * 
+ * @author Gunnar Morling
+ * 
+ * @param <M>
+ *            The model value type.
+ * @param <T>
+ *            The target value type.
+ */
+/* package private */abstract class PrimitiveTextConversion<M, T> {
+
+    /**
+     * Returns a conversion for the given properties or <code>null</code> if
+     * the given properties and converter don't allow for a primitive
+     * conversion.
+     */
+    // the numeric model properties are ReadOnlyProperty<Number> and the
+    // target property is a ReadOnlyProperty<String>, so M is Number and T is
+    // String for any conversion returned
+    @SuppressWarnings("unchecked")
+    public static <M, T> PrimitiveTextConversion<M, T> forProperties(ReadOnlyProperty<M> modelProperty,
+            ReadOnlyProperty<T> targetProperty, Converter<M, T> converter) {
+
+        return (PrimitiveTextConversion<M, T>) createConversion( modelProperty, targetProperty, converter );
+    }
+
+    private static PrimitiveTextConversion<?, ?> createConversion(ReadOnlyProperty<?> modelProperty,
+            ReadOnlyProperty<?> targetProperty, Converter<?, ?> converter) {
+
+        // subclasses of the converters may override toModel() and toTarget(),
+        // so only the converters themselves are bypassed
+        if ( !( targetProperty instanceof ReadOnlyStringProperty ) || converter == null ) {
+            return null;
+        }
+
+        Class<?> converterClass = converter.getClass();
+
+        if ( modelProperty instanceof ReadOnlyIntegerProperty && converterClass == IntTextConverter.class ) {
+            return new IntConversion( (ReadOnlyIntegerProperty) modelProperty, (IntTextConverter) converter );
+        }
+        else if ( modelProperty instanceof ReadOnlyLongProperty && converterClass == LongTextConverter.class ) {
+            return new LongConversion( (ReadOnlyLongProperty) modelProperty, (LongTextConverter) converter );
+        }
+        else if ( modelProperty instanceof ReadOnlyDoubleProperty && converterClass == DoubleTextConverter.class ) {
+            return new DoubleConversion( (ReadOnlyDoubleProperty) modelProperty, (DoubleTextConverter) converter );
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the text representation of the current model value.
+     */
+    public abstract T formatModel();
+
+    /**
+     * Parses the given target value and keeps the result.
+     * 
+     * @throws de.gmorling.jxbinding.converter.ConversionException
+     *             If the given value can't be parsed.
+     */
+    public abstract void parseTarget(CharSequence text);
+
+    /**
+     * Returns the last parsed value in boxed form, e.g. for validation.
+     */
+    public abstract M getParsedValue();
+
+    /**
+     * Writes the last parsed value to the model property, if it is writable.
+     */
+    public abstract void writeModel();
+
+    private abstract static class NumberTextConversion extends PrimitiveTextConversion<Number, String> {
+
+        /**
+         * Re-used for formatting model values.
+         */
+        protected final StringBuilder buffer = new StringBuilder( 24 );
+
+        @Override
+        public String formatModel() {
+
+            buffer.setLength( 0 );
+            appendModel();
+
+            return buffer.toString();
+        }
+
+        protected abstract void appendModel();
+    }
+
+    private static class IntConversion extends NumberTextConversion {
+
+        private final ReadOnlyIntegerProperty modelProperty;
+        private final IntTextConverter converter;
+        private int parsedValue;
+
+        private IntConversion(ReadOnlyIntegerProperty modelProperty, IntTextConverter converter) {
+            this.modelProperty = modelProperty;
+            this.converter = converter;
+        }
+
+        @Override
+        protected void appendModel() {
+            converter.format( modelProperty.get(), buffer );
+        }
+
+        @Override
+        public void parseTarget(CharSequence text) {
+            parsedValue = converter.parse( text );
+        }
+
+        @Override
+        public Number getParsedValue() {
+            return parsedValue;
+        }
+
+        @Override
+        public void writeModel() {
+            if ( modelProperty instanceof IntegerProperty ) {
+                ( (IntegerProperty) modelProperty ).set( parsedValue );
+            }
+        }
+    }
+
+    private static class LongConversion extends NumberTextConversion {
+
+        private final ReadOnlyLongProperty modelProperty;
+        private final LongTextConverter converter;
+        private long parsedValue;
+
+        private LongConversion(ReadOnlyLongProperty modelProperty, LongTextConverter converter) {
+            this.modelProperty = modelProperty;
+            this.converter = converter;
+        }
+
+        @Override
+        protected void appendModel() {
+            converter.format( modelProperty.get(), buffer );
+        }
+
+        @Override
+        public void parseTarget(CharSequence text) {
+            parsedValue = converter.parse( text );
+        }
+
+        @Override
+        public Number getParsedValue() {
+            return parsedValue;
+        }
+
+        @Override
+        public void writeModel() {
+            if ( modelProperty instanceof LongProperty ) {
+                ( (LongProperty) modelProperty ).set( parsedValue );
+            }
+        }
+    }
+
+    private static class DoubleConversion extends NumberTextConversion {
+
+        private final ReadOnlyDoubleProperty modelProperty;
+        private final DoubleTextConverter converter;
+        private double parsedValue;
+
+        private DoubleConversion(ReadOnlyDoubleProperty modelProperty, DoubleTextConverter converter) {
+            this.modelProperty = modelProperty;
+            this.converter = converter;
+        }
+
+        @Override
+        protected void appendModel() {
+            converter.format( modelProperty.get(), buffer );
+        }
+
+        @Override
+        public void parseTarget(CharSequence text) {
+            parsedValue = converter.parse( text );
+        }
+
+        @Override
+        public Number getParsedValue() {
+            return parsedValue;
+        }
+
+        @Override
+        public void writeModel() {
+            if ( modelProperty instanceof DoubleProperty ) {
+                ( (DoubleProperty) modelProperty ).set( parsedValue );
+            }
+        }
+    }
+
+}
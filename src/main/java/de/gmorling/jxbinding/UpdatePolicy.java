@@ -22,10 +22,97 @@ package de.gmorling.jxbinding;
  */
 public enum UpdatePolicy {
 
+    /**
+     * Updates will never be propagated.
+     */
     NEVER,
 
+    /**
+     * Updates are propagated on demand only.
+     */
     ON_REQUEST,
 
-    INSTANTLY;
+    /**
+     * Updates are propagated immediately as a value changes.
+     */
+    INSTANTLY,
+
+    /**
+     * Changes of the model only mark the target as stale; the model value is
+     * converted and written to the target once the target is refreshed, e.g.
+     * because it became visible. Only applicable to target updates.
+     * 
+     * @see Binding#refreshTarget()
+     * @see BindingContext#refreshTargetPropertyOf(Binding)
+     */
+    LAZILY,
+
+    /**
+     * An update is propagated once the value hasn't changed for a given time,
+     * e.g. when the user stopped typing. The delay must be given when
+     * creating the binding, e.g. via
+     * {@link BindingContext.BindingBuilderContext#withModelUpdatePolicy(UpdatePolicy, long)}.
+     */
+    DEBOUNCED,
+
+    /**
+     * Updates are propagated at most once per a given interval. The last
+     * change within an interval is propagated at its end. The interval must be
+     * given when creating the binding, e.g. via
+     * {@link BindingContext.BindingBuilderContext#withModelUpdatePolicy(UpdatePolicy, long)}.
+     */
+    THROTTLED;
+
+    /**
+     * Whether updates are propagated automatically, either instantly or time
+     * based.
+     */
+    public boolean isAutomatic() {
+        return this == INSTANTLY || isTimeBased();
+    }
+
+    public boolean isTimeBased() {
+        return this == DEBOUNCED || this == THROTTLED;
+    }
+
+    public boolean isLazy() {
+        return this == LAZILY;
+    }
+
+    /**
+     * Checks that the given delay respectively interval is applicable to this
+     * policy, i.e. that it is positive for time based policies and 0
+     * otherwise.
+     * 
+     * @return The given delay.
+     */
+    /* package private */long checkDelay(long delayMillis) {
+
+        if ( isTimeBased() && delayMillis <= 0 ) {
+            throw new IllegalArgumentException( "Delay of update policy " + this + " must be positive, but was "
+                    + delayMillis );
+        }
+        else if ( !isTimeBased() && delayMillis != 0 ) {
+            throw new IllegalArgumentException( "Update policy " + this + " doesn't take a delay" );
+        }
+
+        return delayMillis;
+    }
+
+    /**
+     * Checks that this policy is applicable to model updates and that the
+     * given delay respectively interval is applicable to it.
+     * 
+     * @return The given delay.
+     * @see #checkDelay(long)
+     */
+    /* package private */long checkModelUpdateDelay(long delayMillis) {
+
+        if ( isLazy() ) {
+            throw new IllegalArgumentException( "Update policy " + this + " is only applicable to target updates" );
+        }
+
+        return checkDelay( delayMillis );
+    }
 
 }
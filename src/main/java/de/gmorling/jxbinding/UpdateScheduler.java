@@ -0,0 +1,156 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Triggers the propagation of changes for bindings with a time based update
+ * policy. Timers of all bindings are served by one shared daemon thread, the
+ * propagation itself happens on the JavaFX application thread. An instance is
+ * associated with one direction of one binding and must only be accessed from
+ * the FX thread.
+ * 
+ * @author Gunnar Morling
+ * 
+ * @see UpdatePolicy#DEBOUNCED
+ * @see UpdatePolicy#THROTTLED
+ */
+/* package private */class UpdateScheduler {
+
+    private final UpdatePolicy updatePolicy;
+    private final long delayMillis;
+    private final Runnable propagation;
+    private final Executor fxThreadExecutor;
+
+    /**
+     * Identifies the currently scheduled propagation; a propagation whose
+     * token doesn't match anymore has been cancelled or superseded.
+     */
+    private long token;
+
+    /**
+     * The currently scheduled timer task or <code>null</code> if there is
+     * none.
+     */
+    private ScheduledFuture<?> scheduledTask;
+    private boolean hasPropagated;
+    private long lastPropagationNanos;
+
+    public UpdateScheduler(UpdatePolicy updatePolicy, long delayMillis, Runnable propagation, Executor fxThreadExecutor) {
+        this.updatePolicy = updatePolicy;
+        this.delayMillis = delayMillis;
+        this.propagation = propagation;
+        this.fxThreadExecutor = fxThreadExecutor;
+    }
+
+    /**
+     * Notifies this scheduler about a change to be propagated.
+     */
+    public void changed() {
+
+        if ( updatePolicy == UpdatePolicy.DEBOUNCED ) {
+            schedule( delayMillis );
+            return;
+        }
+
+        if ( scheduledTask != null ) {
+            return;
+        }
+
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos( delayMillis );
+        long elapsedNanos = System.nanoTime() - lastPropagationNanos;
+
+        if ( !hasPropagated || elapsedNanos >= intervalNanos ) {
+            propagate();
+        }
+        else {
+            schedule( TimeUnit.NANOSECONDS.toMillis( intervalNanos - elapsedNanos ) + 1 );
+        }
+    }
+
+    /**
+     * Discards any scheduled propagation.
+     */
+    public void cancel() {
+
+        token++;
+
+        if ( scheduledTask != null ) {
+            scheduledTask.cancel( false );
+            scheduledTask = null;
+
+            // cancelled tasks otherwise remain in the timer's queue until
+            // their delay has elapsed
+            TimerHolder.TIMER.purge();
+        }
+    }
+
+    private void schedule(long delayMillis) {
+
+        cancel();
+
+        final long scheduledToken = token;
+
+        scheduledTask = TimerHolder.TIMER.schedule( new Runnable() {
+
+            @Override
+            public void run() {
+                fxThreadExecutor.execute( new Runnable() {
+
+                    @Override
+                    public void run() {
+                        // the task may have been cancelled after it had
+                        // been started already
+                        if ( scheduledToken == token ) {
+                            scheduledTask = null;
+                            propagate();
+                        }
+                    }
+                } );
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS );
+    }
+
+    private void propagate() {
+        hasPropagated = true;
+        lastPropagationNanos = System.nanoTime();
+        propagation.run();
+    }
+
+    private static class TimerHolder {
+
+        private final static ScheduledThreadPoolExecutor TIMER = createTimer();
+
+        private static ScheduledThreadPoolExecutor createTimer() {
+
+            return new ScheduledThreadPoolExecutor( 1, new ThreadFactory() {
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread( r, "jx-binding-update-scheduler" );
+                    thread.setDaemon( true );
+                    return thread;
+                }
+            } );
+        }
+    }
+
+}
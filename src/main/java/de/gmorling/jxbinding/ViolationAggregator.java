@@ -0,0 +1,118 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Incrementally maintains the violations of all bindings of a context. Each
+ * binding with at least one violation occupies a slot, so updating the
+ * aggregate upon a change of a single binding doesn't require to visit all
+ * other bindings. Not thread-safe, expected to be accessed from the FX thread
+ * only.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+/* package private */class ViolationAggregator {
+
+    /**
+     * The violations of all currently invalid bindings, keyed by the
+     * violations property of the binding.
+     */
+    private final Map<Object, List<BindingViolation>> slots = new LinkedHashMap<Object, List<BindingViolation>>();
+
+    private int invalidBindingCount;
+
+    private int violationCount;
+
+    /**
+     * Updates the slot of the given binding.
+     * 
+     * @return <code>true</code> if the aggregated violations changed,
+     *         <code>false</code> otherwise.
+     */
+    public boolean update(Object binding, List<BindingViolation> violations) {
+
+        if ( violations == null || violations.isEmpty() ) {
+            return remove( binding );
+        }
+
+        List<BindingViolation> previous = slots.put( binding, violations );
+
+        if ( previous == null ) {
+            invalidBindingCount++;
+        }
+        else {
+            violationCount -= previous.size();
+        }
+        violationCount += violations.size();
+
+        return true;
+    }
+
+    /**
+     * Removes the slot of the given binding.
+     * 
+     * @return <code>true</code> if the aggregated violations changed,
+     *         <code>false</code> otherwise.
+     */
+    public boolean remove(Object binding) {
+
+        List<BindingViolation> previous = slots.remove( binding );
+
+        if ( previous == null ) {
+            return false;
+        }
+
+        invalidBindingCount--;
+        violationCount -= previous.size();
+
+        return true;
+    }
+
+    public boolean isValid() {
+        return invalidBindingCount == 0;
+    }
+
+    public int getInvalidBindingCount() {
+        return invalidBindingCount;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current violations. Only the slots
+     * of invalid bindings are visited.
+     */
+    public List<BindingViolation> getViolations() {
+
+        if ( invalidBindingCount == 0 ) {
+            return Collections.emptyList();
+        }
+
+        List<BindingViolation> violations = new ArrayList<BindingViolation>( violationCount );
+
+        for ( List<BindingViolation> oneSlot : slots.values() ) {
+            violations.addAll( oneSlot );
+        }
+
+        return Collections.unmodifiableList( violations );
+    }
+
+}
@@ -0,0 +1,48 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a control of a {@link BindingForm} to a property of the form's model.
+ * The annotated field must not be private, as it is accessed by the generated
+ * binder.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.CLASS)
+public @interface BindTo {
+
+    /**
+     * The name of the model property to bind to.
+     */
+    String value();
+
+    /**
+     * The name of the control's property to bind, e.g. <code>text</code> for
+     * the property returned by <code>textProperty()</code>.
+     */
+    String targetProperty() default "text";
+
+}
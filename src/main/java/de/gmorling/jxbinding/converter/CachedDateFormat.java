@@ -0,0 +1,127 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe date format. As {@link DateFormat} itself isn't thread-safe,
+ * each thread works with its own format instance, which is created once and
+ * then re-used. Instances of this class are cached by pattern, locale and
+ * time zone, so all converters using the same pattern share their formats.
+ * <p>
+ * Parsing is strict, i.e. it isn't lenient and requires the complete text to
+ * match the pattern. Parse failures are signaled by returning
+ * <code>null</code> instead of raising an exception.
+ * </p>
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class CachedDateFormat {
+
+    private final static ConcurrentMap<String, CachedDateFormat> INSTANCES = new ConcurrentHashMap<String, CachedDateFormat>();
+
+    private final DateFormat prototype;
+
+    private final ThreadLocal<DateFormat> formats = new ThreadLocal<DateFormat>() {
+
+        @Override
+        protected DateFormat initialValue() {
+            return (DateFormat) prototype.clone();
+        }
+    };
+
+    private CachedDateFormat(DateFormat prototype) {
+        this.prototype = prototype;
+    }
+
+    public static CachedDateFormat getInstance(String pattern) {
+        return getInstance( pattern, Locale.getDefault(), TimeZone.getDefault() );
+    }
+
+    public static CachedDateFormat getInstance(String pattern, Locale locale) {
+        return getInstance( pattern, locale, TimeZone.getDefault() );
+    }
+
+    /**
+     * Returns the format for the given pattern, locale and time zone.
+     * 
+     * @throws IllegalArgumentException
+     *             If the given pattern is invalid.
+     */
+    public static CachedDateFormat getInstance(String pattern, Locale locale, TimeZone timeZone) {
+
+        String key = pattern + '\u0000' + locale + '\u0000' + timeZone.getID();
+        CachedDateFormat format = INSTANCES.get( key );
+
+        if ( format == null ) {
+            SimpleDateFormat prototype = new SimpleDateFormat( pattern, locale );
+            prototype.setTimeZone( timeZone );
+            prototype.setLenient( false );
+
+            format = new CachedDateFormat( prototype );
+            CachedDateFormat existing = INSTANCES.putIfAbsent( key, format );
+            if ( existing != null ) {
+                format = existing;
+            }
+        }
+
+        return format;
+    }
+
+    /**
+     * Returns a thread-safe format based on the given format. The returned
+     * instance isn't cached; the given format must not be altered afterwards.
+     */
+    public static CachedDateFormat forFormat(DateFormat format) {
+        return new CachedDateFormat( (DateFormat) format.clone() );
+    }
+
+    /**
+     * Parses the given text.
+     * 
+     * @return The parsed date or <code>null</code> if the given text doesn't
+     *         completely match this format.
+     */
+    public Date parse(String text) {
+
+        ParsePosition position = new ParsePosition( 0 );
+        Date date = formats.get().parse( text, position );
+
+        if ( date == null || position.getIndex() != text.length() ) {
+            return null;
+        }
+
+        return date;
+    }
+
+    public String format(Date date) {
+        return formats.get().format( date );
+    }
+
+    public TimeZone getTimeZone() {
+        return prototype.getTimeZone();
+    }
+
+}
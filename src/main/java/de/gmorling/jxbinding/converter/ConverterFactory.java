@@ -15,118 +15,72 @@
  */
 package de.gmorling.jxbinding.converter;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import javafx.beans.property.ReadOnlyProperty;
 
+/**
+ * Determines the converter for a pair of model and target property. The value
+ * types of a given pair of property types are determined only once; the
+ * converter resolved for them is cached and shared by all bindings between
+ * properties of these types.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
 public class ConverterFactory {
 
-	private final static Map<Key, Class<? extends Converter<?, ?>>> CONVERTER_TYPES = new HashMap<Key, Class<? extends Converter<?, ?>>>();
-	
-	static {
-        CONVERTER_TYPES.put(new Key(Integer.class, String.class), StringToIntConverter.class);
-        CONVERTER_TYPES.put(new Key(int.class, String.class), StringToIntConverter.class);
-    }
-	
-	@SuppressWarnings("unchecked")
-	public static <M, T> Converter<M, T> getConverter(ReadOnlyProperty<M> modelProperty, ReadOnlyProperty<T> targetProperty) {
-
-//		Object bean = modelProperty.getBean();
-//		String name = modelProperty.getName();
-		
-		
-        Class<?> modelPropertyType = null;
-        Class<?> targetPropertyType = null;
-        
-        try {
-            modelPropertyType = modelProperty.getClass().getMethod("getValue").getReturnType();
-
-//        	if(bean != null && name != null) {
-//        		modelPropertyType = bean.getClass().getMethod("get" + capitalize(name)).getReturnType();
-//        	}
-//        	else {
-//        		modelPropertyType = Object.class;
-//        	}
-        	
-            targetPropertyType = targetProperty.getClass().getMethod("getValue").getReturnType();
-            M value = modelProperty.getValue();
-            if(modelPropertyType.equals(targetPropertyType)) {
-            	return (Converter<M, T>)new NoOpConverter<M>();
-            }
-        }
-        catch (NoSuchMethodException ex) {
-            throw new RuntimeException(ex);
-        } 
-        catch (SecurityException ex) {
-            throw new RuntimeException(ex);
-        }
-                
-        Class<? extends Converter<?, ?>> converterClass = CONVERTER_TYPES.get(new Key(modelPropertyType, targetPropertyType));
-        
-        if(converterClass == null) {
-            throw new IllegalArgumentException("Couldn't find a converter type for model property type " + modelPropertyType + " and target property type " + targetPropertyType);
-        }
-        try {
-            return (Converter<M, T>) converterClass.newInstance();
-        } 
-        catch (InstantiationException ex) {
-            throw new RuntimeException(ex);
-        }
-        catch (IllegalAccessException ex) {
-            throw new RuntimeException(ex);
+    private final static ConverterRegistry REGISTRY = ConverterRegistry.createDefault();
+
+    private final static ConverterRegistry.ConverterTable CONVERTERS_BY_PROPERTY_TYPES = new ConverterRegistry.ConverterTable();
+
+    @SuppressWarnings("unchecked")
+    public static <M, T> Converter<M, T> getConverter(ReadOnlyProperty<M> modelProperty,
+            ReadOnlyProperty<T> targetProperty) {
+
+        Converter<?, ?> converter = CONVERTERS_BY_PROPERTY_TYPES.get( modelProperty.getClass(),
+                targetProperty.getClass() );
+
+        if ( converter == null ) {
+            converter = resolveConverter( modelProperty.getClass(), targetProperty.getClass() );
+            CONVERTERS_BY_PROPERTY_TYPES.putIfAbsent( modelProperty.getClass(), targetProperty.getClass(), converter );
         }
+
+        return (Converter<M, T>) converter;
     }
-	
-	@SuppressWarnings("unused")
-	private static String capitalize(String s) {
-		
-		if(s == null || "".equals(s)) {
-			return s;
-		}
-		else if(s.length() == 1) {
-			return s.toUpperCase();
-		}
-		else {
-			return s.substring(0, 1).toUpperCase() + s.substring(1, s.length());
-		}
-	}
-	
-	private static class Key {
-        
-        private final Class<?> c1;
-        private final Class<?> c2;
-        
-        public Key(Class<?> c1, Class<?> c2) {
-            this.c1 = c1;
-            this.c2 = c2;
-        }
 
-        @Override
-        public boolean equals(Object obj) {
-            if (obj == null) {
-                return false;
-            }
-            if (getClass() != obj.getClass()) {
-                return false;
-            }
-            final Key other = (Key) obj;
-            if (this.c1 != other.c1 && (this.c1 == null || !this.c1.equals(other.c1))) {
-                return false;
-            }
-            if (this.c2 != other.c2 && (this.c2 == null || !this.c2.equals(other.c2))) {
-                return false;
-            }
-            return true;
-        }
+    /**
+     * Returns the registry with all known converters. Converters must be
+     * registered before the first binding is created.
+     */
+    public static ConverterRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    private static Converter<?, ?> resolveConverter(Class<?> modelPropertyClass, Class<?> targetPropertyClass) {
 
-        @Override
-        public int hashCode() {
-            int hash = 7;
-            hash = 17 * hash + (this.c1 != null ? this.c1.hashCode() : 0);
-            hash = 17 * hash + (this.c2 != null ? this.c2.hashCode() : 0);
-            return hash;
+        Class<?> modelPropertyType = getValueType( modelPropertyClass );
+        Class<?> targetPropertyType = getValueType( targetPropertyClass );
+
+        Converter<?, ?> converter = REGISTRY.getConverter( modelPropertyType, targetPropertyType );
+
+        if ( converter == null ) {
+            throw new IllegalArgumentException( "Couldn't find a converter type for model property type "
+                    + modelPropertyType + " and target property type " + targetPropertyType );
         }
 
+        return converter;
+    }
+
+    private static Class<?> getValueType(Class<?> propertyClass) {
+
+        try {
+            return propertyClass.getMethod( "getValue" ).getReturnType();
+        }
+        catch ( NoSuchMethodException ex ) {
+            throw new RuntimeException( ex );
+        }
+        catch ( SecurityException ex ) {
+            throw new RuntimeException( ex );
+        }
     }
+
 }
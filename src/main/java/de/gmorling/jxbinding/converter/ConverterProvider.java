@@ -0,0 +1,38 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+/**
+ * Service provider interface for contributing converters to the
+ * {@link ConverterRegistry} used by {@link ConverterFactory}. Implementations
+ * are discovered via {@link java.util.ServiceLoader}, i.e. they must be listed
+ * in a file
+ * <code>META-INF/services/de.gmorling.jxbinding.converter.ConverterProvider</code>
+ * .
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public interface ConverterProvider {
+
+    /**
+     * Registers the converters of this provider with the given registry.
+     * Registered converters are shared between all bindings and thus must be
+     * stateless and thread-safe.
+     */
+    void registerConverters(ConverterRegistry registry);
+
+}
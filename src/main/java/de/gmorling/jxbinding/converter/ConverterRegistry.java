@@ -0,0 +1,211 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Manages the converters known to {@link ConverterFactory}, keyed by model
+ * and target type. Lookups take primitive types and type hierarchies into
+ * account; their results are memoized, so resolving a converter for a given
+ * pair of types happens only once.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class ConverterRegistry {
+
+    private final static Map<Class<?>, Class<?>> WRAPPER_TYPES = new HashMap<Class<?>, Class<?>>();
+
+    static {
+        WRAPPER_TYPES.put( boolean.class, Boolean.class );
+        WRAPPER_TYPES.put( byte.class, Byte.class );
+        WRAPPER_TYPES.put( char.class, Character.class );
+        WRAPPER_TYPES.put( short.class, Short.class );
+        WRAPPER_TYPES.put( int.class, Integer.class );
+        WRAPPER_TYPES.put( long.class, Long.class );
+        WRAPPER_TYPES.put( float.class, Float.class );
+        WRAPPER_TYPES.put( double.class, Double.class );
+    }
+
+    /**
+     * Marks a pair of types for which no converter exists.
+     */
+    private final static Converter<?, ?> NO_CONVERTER = new NoOpConverter<Object>();
+
+    private final ConverterTable registeredConverters = new ConverterTable();
+
+    private final ConverterTable resolvedConverters = new ConverterTable();
+
+    /**
+     * Creates a registry containing the built-in converters and the converters
+     * of all {@link ConverterProvider}s available via the service loader
+     * mechanism.
+     */
+    public static ConverterRegistry createDefault() {
+
+        ConverterRegistry registry = new ConverterRegistry();
+
+        registry.register( Integer.class, String.class, IntTextConverter.INSTANCE );
+        registry.register( Long.class, String.class, LongTextConverter.INSTANCE );
+        registry.register( Double.class, String.class, DoubleTextConverter.INSTANCE );
+
+        for ( ConverterProvider oneProvider : ServiceLoader.load( ConverterProvider.class ) ) {
+            oneProvider.registerConverters( registry );
+        }
+
+        return registry;
+    }
+
+    /**
+     * Registers a converter for the given model and target type. The
+     * converter will also be used for sub-types of the given types, unless a
+     * more specific converter is registered. Registering converters after
+     * lookups have been performed is not supported.
+     */
+    public synchronized <M, T> void register(Class<M> modelType, Class<T> targetType,
+            Converter<? super M, ? super T> converter) {
+
+        registeredConverters.put( wrap( modelType ), wrap( targetType ), converter );
+    }
+
+    /**
+     * Returns the converter for the given types.
+     * 
+     * @return A converter or <code>null</code> if no converter is registered
+     *         for the given types or their super-types.
+     */
+    public Converter<?, ?> getConverter(Class<?> modelType, Class<?> targetType) {
+
+        Converter<?, ?> converter = resolvedConverters.get( modelType, targetType );
+
+        if ( converter == null ) {
+            converter = resolve( wrap( modelType ), wrap( targetType ) );
+            resolvedConverters.putIfAbsent( modelType, targetType, converter != null ? converter : NO_CONVERTER );
+        }
+
+        return converter == NO_CONVERTER ? null : converter;
+    }
+
+    private synchronized Converter<?, ?> resolve(Class<?> modelType, Class<?> targetType) {
+
+        if ( modelType.equals( targetType ) ) {
+            return NoOpConverter.getInstance();
+        }
+
+        List<Class<?>> targetHierarchy = getHierarchy( targetType );
+
+        for ( Class<?> oneModelType : getHierarchy( modelType ) ) {
+            for ( Class<?> oneTargetType : targetHierarchy ) {
+
+                Converter<?, ?> converter = registeredConverters.get( oneModelType, oneTargetType );
+
+                if ( converter != null ) {
+                    return converter;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the given type, its super-classes and interfaces, ordered from
+     * most to least specific.
+     */
+    private List<Class<?>> getHierarchy(Class<?> type) {
+
+        Set<Class<?>> hierarchy = new LinkedHashSet<Class<?>>();
+
+        for ( Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass() ) {
+            hierarchy.add( clazz );
+        }
+
+        for ( Class<?> oneClass : new ArrayList<Class<?>>( hierarchy ) ) {
+            addInterfaces( oneClass, hierarchy );
+        }
+
+        return new ArrayList<Class<?>>( hierarchy );
+    }
+
+    private void addInterfaces(Class<?> type, Set<Class<?>> hierarchy) {
+
+        for ( Class<?> oneInterface : type.getInterfaces() ) {
+            if ( hierarchy.add( oneInterface ) ) {
+                addInterfaces( oneInterface, hierarchy );
+            }
+        }
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        Class<?> wrapperType = WRAPPER_TYPES.get( type );
+        return wrapperType != null ? wrapperType : type;
+    }
+
+    /**
+     * Maps pairs of model and target types to converters. Implemented as
+     * two-level map, so that looking up a converter doesn't allocate any
+     * key objects.
+     */
+    /* package private */static class ConverterTable {
+
+        private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Converter<?, ?>>> convertersByModelType = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, Converter<?, ?>>>();
+
+        /**
+         * Returns the converter for the given types or <code>null</code> if
+         * there is none.
+         */
+        /* package private */Converter<?, ?> get(Class<?> modelType, Class<?> targetType) {
+
+            ConcurrentMap<Class<?>, Converter<?, ?>> convertersByTargetType = convertersByModelType.get( modelType );
+
+            return convertersByTargetType != null ? convertersByTargetType.get( targetType ) : null;
+        }
+
+        /* package private */void put(Class<?> modelType, Class<?> targetType, Converter<?, ?> converter) {
+            getConvertersByTargetType( modelType ).put( targetType, converter );
+        }
+
+        /* package private */void putIfAbsent(Class<?> modelType, Class<?> targetType, Converter<?, ?> converter) {
+            getConvertersByTargetType( modelType ).putIfAbsent( targetType, converter );
+        }
+
+        private ConcurrentMap<Class<?>, Converter<?, ?>> getConvertersByTargetType(Class<?> modelType) {
+
+            ConcurrentMap<Class<?>, Converter<?, ?>> convertersByTargetType = convertersByModelType.get( modelType );
+
+            if ( convertersByTargetType == null ) {
+                convertersByTargetType = new ConcurrentHashMap<Class<?>, Converter<?, ?>>();
+                ConcurrentMap<Class<?>, Converter<?, ?>> existing = convertersByModelType.putIfAbsent( modelType,
+                        convertersByTargetType );
+                if ( existing != null ) {
+                    convertersByTargetType = existing;
+                }
+            }
+
+            return convertersByTargetType;
+        }
+    }
+
+}
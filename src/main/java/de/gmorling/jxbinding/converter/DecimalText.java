@@ -0,0 +1,97 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+/**
+ * Defines the text accepted by the numeric text converters, so that they all
+ * agree on it: an optional sign followed by ASCII digits, for floating point
+ * values optionally with a fraction and an exponent. Leading or trailing
+ * whitespace, grouping separators, <code>NaN</code>, <code>Infinity</code>,
+ * hexadecimal notation and type suffixes are not accepted.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+/* package private */final class DecimalText {
+
+    private DecimalText() {
+    }
+
+    /**
+     * Returns the value of the given ASCII digit or -1 if the given character
+     * isn't an ASCII digit.
+     */
+    public static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    /**
+     * Whether the given text is a valid floating point number, i.e. an
+     * optional sign, digits with an optional fraction, at least one digit in
+     * total, and an optional exponent made up of <code>e</code> or
+     * <code>E</code>, an optional sign and at least one digit.
+     */
+    public static boolean isFloatingPoint(CharSequence text) {
+
+        int length = text.length();
+        int index = skipSign( text, 0 );
+
+        int digits = 0;
+        while ( index < length && digit( text.charAt( index ) ) >= 0 ) {
+            index++;
+            digits++;
+        }
+
+        if ( index < length && text.charAt( index ) == '.' ) {
+            index++;
+            while ( index < length && digit( text.charAt( index ) ) >= 0 ) {
+                index++;
+                digits++;
+            }
+        }
+
+        if ( digits == 0 ) {
+            return false;
+        }
+
+        if ( index < length && ( text.charAt( index ) == 'e' || text.charAt( index ) == 'E' ) ) {
+
+            index = skipSign( text, index + 1 );
+
+            int exponentDigits = 0;
+            while ( index < length && digit( text.charAt( index ) ) >= 0 ) {
+                index++;
+                exponentDigits++;
+            }
+
+            if ( exponentDigits == 0 ) {
+                return false;
+            }
+        }
+
+        return index == length;
+    }
+
+    private static int skipSign(CharSequence text, int index) {
+
+        if ( index < text.length() && ( text.charAt( index ) == '-' || text.charAt( index ) == '+' ) ) {
+            return index + 1;
+        }
+
+        return index;
+    }
+
+}
@@ -0,0 +1,83 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+import de.gmorling.jxbinding.BindingViolation;
+
+/**
+ * Converts between <code>double</code> values and their text representation.
+ * Besides the boxing {@link Converter} contract this converter provides
+ * methods working on primitive values, which are used by bindings of
+ * {@link javafx.beans.property.DoubleProperty}s to avoid boxing. This
+ * converter is stateless and thread-safe.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class DoubleTextConverter implements Converter<Number, String> {
+
+    public final static DoubleTextConverter INSTANCE = new DoubleTextConverter();
+
+    @Override
+    public Number toModel(String target) {
+        return target == null ? null : Double.valueOf( parse( target ) );
+    }
+
+    @Override
+    public String toTarget(Number model) {
+        return model == null ? null : model.toString();
+    }
+
+    /**
+     * Parses the given text. If a {@link String} is given, no intermediary
+     * objects are created. An optional sign followed by ASCII digits with an
+     * optional fraction and exponent is accepted, as by the other numeric
+     * text converters; e.g. surrounding whitespace, <code>NaN</code>,
+     * <code>Infinity</code> and hexadecimal notation are rejected.
+     * 
+     * @throws ConversionException
+     *             If the given text doesn't represent a valid
+     *             <code>double</code> value.
+     */
+    public double parse(CharSequence text) {
+
+        if ( text == null || !DecimalText.isFloatingPoint( text ) ) {
+            throw invalidNumber();
+        }
+
+        double value = Double.parseDouble( text.toString() );
+
+        // reject overflows, as the integral converters do
+        if ( Double.isInfinite( value ) ) {
+            throw invalidNumber();
+        }
+
+        return value;
+    }
+
+    /**
+     * Appends the text representation of the given value to the given
+     * builder.
+     */
+    public void format(double value, StringBuilder target) {
+        target.append( value );
+    }
+
+    private ConversionException invalidNumber() {
+        return new ConversionException( new BindingViolation( "must be a valid number" ) );
+    }
+
+}
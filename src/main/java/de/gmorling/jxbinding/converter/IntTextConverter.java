@@ -0,0 +1,111 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+import de.gmorling.jxbinding.BindingViolation;
+
+/**
+ * Converts between <code>int</code> values and their decimal text
+ * representation. Besides the boxing {@link Converter} contract this
+ * converter provides methods working on primitive values, which are used by
+ * bindings of {@link javafx.beans.property.IntegerProperty}s to avoid boxing.
+ * This converter is stateless and thread-safe.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class IntTextConverter implements Converter<Number, String> {
+
+    public final static IntTextConverter INSTANCE = new IntTextConverter();
+
+    @Override
+    public Number toModel(String target) {
+        return target == null ? null : Integer.valueOf( parse( target ) );
+    }
+
+    @Override
+    public String toTarget(Number model) {
+        return model == null ? null : model.toString();
+    }
+
+    /**
+     * Parses the given text without creating any intermediary objects. An
+     * optional sign followed by ASCII digits is accepted, as by the other
+     * numeric text converters.
+     * 
+     * @throws ConversionException
+     *             If the given text doesn't represent a valid
+     *             <code>int</code> value.
+     */
+    public int parse(CharSequence text) {
+
+        int length = text != null ? text.length() : 0;
+
+        if ( length == 0 ) {
+            throw invalidNumber();
+        }
+
+        int index = 0;
+        boolean negative = false;
+        char first = text.charAt( 0 );
+
+        if ( first == '-' || first == '+' ) {
+            negative = first == '-';
+            index++;
+
+            if ( length == 1 ) {
+                throw invalidNumber();
+            }
+        }
+
+        // accumulate negatively, as the range of negative values is larger
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int multiplicationLimit = limit / 10;
+        int result = 0;
+
+        for ( ; index < length; index++ ) {
+
+            int digit = DecimalText.digit( text.charAt( index ) );
+
+            if ( digit < 0 || result < multiplicationLimit ) {
+                throw invalidNumber();
+            }
+
+            result *= 10;
+
+            if ( result < limit + digit ) {
+                throw invalidNumber();
+            }
+
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    /**
+     * Appends the text representation of the given value to the given
+     * builder.
+     */
+    public void format(int value, StringBuilder target) {
+        target.append( value );
+    }
+
+    private ConversionException invalidNumber() {
+        return new ConversionException( new BindingViolation( "must be a valid number" ) );
+    }
+
+}
@@ -0,0 +1,154 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.gmorling.jxbinding.BindingViolation;
+
+/**
+ * A format for rendering {@link BindingViolation}s, which is parsed once into
+ * a sequence of literal text and placeholder segments. Supported placeholders
+ * are <code>${label}</code>, <code>${message}</code>,
+ * <code>${propertyPath}</code>, <code>${constraintType}</code> and
+ * <code>${invalidValue}</code>; any other text is rendered as is. Instances
+ * are immutable and thread-safe.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class MessageTemplate {
+
+    private enum Placeholder {
+
+        LABEL("label"), MESSAGE("message"), PROPERTY_PATH("propertyPath"), CONSTRAINT_TYPE("constraintType"), INVALID_VALUE(
+                "invalidValue");
+
+        private final String name;
+
+        private Placeholder(String name) {
+            this.name = name;
+        }
+
+        private static Placeholder forName(String name) {
+
+            for ( Placeholder onePlaceholder : values() ) {
+                if ( onePlaceholder.name.equals( name ) ) {
+                    return onePlaceholder;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * The segments of this template, each either a {@link String} or a
+     * {@link Placeholder}.
+     */
+    private final Object[] segments;
+
+    private final int literalLength;
+
+    private MessageTemplate(Object[] segments, int literalLength) {
+        this.segments = segments;
+        this.literalLength = literalLength;
+    }
+
+    public static MessageTemplate compile(String format) {
+
+        List<Object> segments = new ArrayList<Object>();
+        StringBuilder literal = new StringBuilder();
+        int literalLength = 0;
+        int index = 0;
+
+        while ( index < format.length() ) {
+
+            int start = format.indexOf( "${", index );
+            int end = start >= 0 ? format.indexOf( '}', start ) : -1;
+            Placeholder placeholder = end >= 0 ? Placeholder.forName( format.substring( start + 2, end ) ) : null;
+
+            if ( placeholder == null ) {
+                int literalEnd = start >= 0 ? start + 2 : format.length();
+                literal.append( format, index, literalEnd );
+                index = literalEnd;
+                continue;
+            }
+
+            literal.append( format, index, start );
+
+            if ( literal.length() > 0 ) {
+                segments.add( literal.toString() );
+                literalLength += literal.length();
+                literal.setLength( 0 );
+            }
+
+            segments.add( placeholder );
+            index = end + 1;
+        }
+
+        if ( literal.length() > 0 ) {
+            segments.add( literal.toString() );
+            literalLength += literal.length();
+        }
+
+        return new MessageTemplate( segments.toArray(), literalLength );
+    }
+
+    /**
+     * Returns the length of this template's literal text, i.e. the minimum
+     * length of a rendered violation.
+     */
+    public int getLiteralLength() {
+        return literalLength;
+    }
+
+    public void appendTo(StringBuilder sb, BindingViolation violation) {
+
+        for ( Object oneSegment : segments ) {
+
+            if ( oneSegment instanceof String ) {
+                sb.append( (String) oneSegment );
+                continue;
+            }
+
+            Object value;
+
+            switch ( (Placeholder) oneSegment ) {
+                case LABEL:
+                    value = violation.getLabel();
+                    break;
+                case MESSAGE:
+                    value = violation.getMessage();
+                    break;
+                case PROPERTY_PATH:
+                    value = violation.getPropertyPath();
+                    break;
+                case CONSTRAINT_TYPE:
+                    value = violation.getConstraintType();
+                    break;
+                default:
+                    value = violation.getInvalidValue();
+            }
+
+            if ( value != null ) {
+                sb.append( value );
+            }
+        }
+    }
+
+}
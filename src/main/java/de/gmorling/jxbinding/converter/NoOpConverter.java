@@ -22,6 +22,16 @@ package de.gmorling.jxbinding.converter;
  */
 public class NoOpConverter <T> implements Converter<T, T> {
 
+	private final static NoOpConverter<Object> INSTANCE = new NoOpConverter<Object>();
+
+	/**
+	 * Returns a shared instance of this stateless converter.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> NoOpConverter<T> getInstance() {
+		return (NoOpConverter<T>) INSTANCE;
+	}
+
 	@Override
 	public T toModel(T target) {
 		return target;
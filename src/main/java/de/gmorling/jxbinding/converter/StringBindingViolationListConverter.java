@@ -30,14 +30,25 @@ public class StringBindingViolationListConverter implements Converter<List<Bindi
 
     public final static String LONG_FORMAT = "${label} ${message}";
 
-    private final String format;
+    /**
+     * An estimate of the length of a label and message, used for sizing the
+     * output buffer.
+     */
+    private final static int ESTIMATED_VALUE_LENGTH = 48;
+
+    private final MessageTemplate template;
+
+    /**
+     * The most recently rendered violations and their rendering.
+     */
+    private volatile Rendering lastRendering;
 
     public StringBindingViolationListConverter() {
         this( LONG_FORMAT );
     }
 
     public StringBindingViolationListConverter(String format) {
-        this.format = format;
+        this.template = MessageTemplate.compile( format );
     }
 
     @Override
@@ -48,28 +59,46 @@ public class StringBindingViolationListConverter implements Converter<List<Bindi
     @Override
     public String toTarget(List<BindingViolation> model) {
 
-        StringBuilder sb = new StringBuilder();
+        Rendering rendering = lastRendering;
 
-        for ( BindingViolation oneViolation : model ) {
+        if ( rendering != null && ( rendering.violations == model || rendering.violations.equals( model ) ) ) {
+            return rendering.text;
+        }
 
-            String violationString = format;
+        String text = render( model );
+        lastRendering = new Rendering( model, text );
 
-            String label = oneViolation.getLabel() != null ? oneViolation.getLabel() : "";
-            violationString = violationString.replace( "${label}", label );
+        return text;
+    }
 
-            String message = oneViolation.getMessage() != null ? oneViolation.getMessage() : "";
-            violationString = violationString.replace( "${message}", message );
+    private String render(List<BindingViolation> model) {
 
-            sb.append( violationString );
-            sb.append( "\n" );
+        if ( model.isEmpty() ) {
+            return "";
         }
 
-        if ( sb.length() > 0 ) {
-            return sb.substring( 0, sb.length() - 1 );
-        }
-        else {
-            return "";
+        StringBuilder sb = new StringBuilder( model.size() * ( template.getLiteralLength() + ESTIMATED_VALUE_LENGTH ) );
+
+        for ( int i = 0; i < model.size(); i++ ) {
+
+            if ( i > 0 ) {
+                sb.append( "\n" );
+            }
+
+            template.appendTo( sb, model.get( i ) );
         }
 
+        return sb.toString();
+    }
+
+    private static class Rendering {
+
+        private final List<BindingViolation> violations;
+        private final String text;
+
+        private Rendering(List<BindingViolation> violations, String text) {
+            this.violations = violations;
+            this.text = text;
+        }
     }
 }
@@ -0,0 +1,90 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+
+import de.gmorling.jxbinding.BindingViolation;
+
+/**
+ * Converts between {@link Calendar} values and their text representation.
+ * Parsed values are represented in the time zone of the used format. This
+ * converter is thread-safe.
+ * 
+ * @author Gunnar Morling
+ * 
+ * @see CachedDateFormat
+ */
+public class StringCalendarConverter implements Converter<Calendar, String> {
+
+    private final CachedDateFormat format;
+
+    public StringCalendarConverter(String format) {
+        this( CachedDateFormat.getInstance( format ) );
+    }
+
+    public StringCalendarConverter(String format, Locale locale) {
+        this( CachedDateFormat.getInstance( format, locale ) );
+    }
+
+    public StringCalendarConverter(CachedDateFormat format) {
+        this.format = format;
+    }
+
+    @Override
+    public Calendar toModel(String target) {
+
+        if ( target == null ) {
+            return null;
+        }
+
+        Calendar calendar = tryParse( target );
+
+        if ( calendar == null ) {
+            throw new ConversionException( new BindingViolation( "must be a valid date" ) );
+        }
+
+        return calendar;
+    }
+
+    /**
+     * Parses the given text without raising an exception upon failure.
+     * 
+     * @return The parsed calendar or <code>null</code> if the given text isn't
+     *         a valid date.
+     */
+    public Calendar tryParse(String target) {
+
+        Date date = target == null ? null : format.parse( target );
+
+        if ( date == null ) {
+            return null;
+        }
+
+        Calendar calendar = Calendar.getInstance( format.getTimeZone() );
+        calendar.setTime( date );
+
+        return calendar;
+    }
+
+    @Override
+    public String toTarget(Calendar model) {
+        return model == null ? null : format.format( model.getTime() );
+    }
+
+}
@@ -16,43 +16,80 @@
 package de.gmorling.jxbinding.converter;
 
 import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
 
 import de.gmorling.jxbinding.BindingViolation;
 
 /**
+ * Converts between {@link Date} values and their text representation. This
+ * converter is thread-safe.
  * 
  * @author Gunnar Morling
- *
+ * 
+ * @see CachedDateFormat
  */
 public class StringDateConverter implements Converter<Date, String> {
 
-    private final DateFormat format;
-    
+    private final static String ISO_INSTANT_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
+    private final CachedDateFormat format;
+
     public StringDateConverter(String format) {
-    	this.format = new SimpleDateFormat(format);
+        this( CachedDateFormat.getInstance( format ) );
+    }
+
+    public StringDateConverter(String format, Locale locale) {
+        this( CachedDateFormat.getInstance( format, locale ) );
     }
-    
+
     public StringDateConverter(DateFormat format) {
+        this( CachedDateFormat.forFormat( format ) );
+    }
+
+    public StringDateConverter(CachedDateFormat format) {
         this.format = format;
     }
-    
+
+    /**
+     * Returns a converter representing points in time in the ISO 8601 format
+     * in UTC, e.g. <code>2011-12-24T18:30:00.000Z</code>.
+     */
+    public static StringDateConverter isoInstant() {
+        return new StringDateConverter( CachedDateFormat.getInstance( ISO_INSTANT_PATTERN, Locale.ROOT,
+                TimeZone.getTimeZone( "UTC" ) ) );
+    }
+
     @Override
-	public Date toModel(String target) {
-    	
-        try {
-            return target == null ? null : format.parse(target);
-        } 
-        catch (ParseException pe) {
-        	throw new ConversionException(new BindingViolation("must be a valid date"));
+    public Date toModel(String target) {
+
+        if ( target == null ) {
+            return null;
+        }
+
+        Date date = format.parse( target );
+
+        if ( date == null ) {
+            throw new ConversionException( new BindingViolation( "must be a valid date" ) );
         }
+
+        return date;
+    }
+
+    /**
+     * Parses the given text without raising an exception upon failure.
+     * 
+     * @return The parsed date or <code>null</code> if the given text isn't a
+     *         valid date.
+     */
+    public Date tryParse(String target) {
+        return target == null ? null : format.parse( target );
     }
 
     @Override
-	public String toTarget(Date model) {
-        return model == null ? null : format.format(model);
+    public String toTarget(Date model) {
+        return model == null ? null : format.format( model );
     }
-    
+
 }
@@ -24,6 +24,11 @@ import de.gmorling.jxbinding.BindingViolation;
  */
 public class StringToIntConverter implements Converter<Number, String> {
 
+	/**
+	 * A shared instance of this stateless converter.
+	 */
+	public final static StringToIntConverter INSTANCE = new StringToIntConverter();
+
     @Override
 	public Number toModel(String target) {
         
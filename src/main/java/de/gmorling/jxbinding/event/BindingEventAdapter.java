@@ -0,0 +1,63 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.event;
+
+import java.util.List;
+
+import de.gmorling.jxbinding.Binding;
+import de.gmorling.jxbinding.BindingViolation;
+import de.gmorling.jxbinding.converter.ConversionException;
+
+/**
+ * A {@link BindingEventListener} with empty method implementations, allowing
+ * sub-classes to override only the methods for the events they are
+ * interested in.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public abstract class BindingEventAdapter implements BindingEventListener {
+
+    @Override
+    public void conversionStarted(Binding<?, ?> binding, ConversionDirection direction) {
+    }
+
+    @Override
+    public void conversionFailed(Binding<?, ?> binding, ConversionDirection direction, Object value,
+            ConversionException exception) {
+    }
+
+    @Override
+    public void conversionFinished(Binding<?, ?> binding, ConversionDirection direction) {
+    }
+
+    @Override
+    public void validationStarted(Binding<?, ?> binding) {
+    }
+
+    @Override
+    public void validationRan(Binding<?, ?> binding, Object value, List<BindingViolation> violations) {
+    }
+
+    @Override
+    public void modelWritten(Binding<?, ?> binding, Object value) {
+    }
+
+    @Override
+    public void targetWritten(Binding<?, ?> binding, Object value) {
+    }
+
+}
@@ -0,0 +1,99 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.event;
+
+import java.util.List;
+
+import de.gmorling.jxbinding.Binding;
+import de.gmorling.jxbinding.BindingViolation;
+import de.gmorling.jxbinding.converter.ConversionException;
+
+/**
+ * Is notified about the operations performed by the bindings of a
+ * {@link de.gmorling.jxbinding.BindingContext}, e.g. for tracing purposes. If
+ * no listener is registered with a context, no events are created at all.
+ * <p>
+ * Listeners are invoked synchronously, so they should return quickly. As
+ * validations may run on a background thread, implementations must be
+ * thread-safe.
+ * </p>
+ * <p>
+ * Conversions and validations are bracketed by a start and an end
+ * notification, which are invoked on the same thread, allowing listeners to
+ * measure the duration of these operations.
+ * </p>
+ * 
+ * @author Gunnar Morling
+ * 
+ * @see BindingEventAdapter
+ */
+public interface BindingEventListener {
+
+    /**
+     * The direction of a conversion.
+     */
+    enum ConversionDirection {
+        TO_MODEL, TO_TARGET;
+    }
+
+    /**
+     * Invoked before a value is converted in the given direction. Followed by
+     * {@link #conversionFinished(Binding, ConversionDirection)} on the same
+     * thread.
+     */
+    void conversionStarted(Binding<?, ?> binding, ConversionDirection direction);
+
+    /**
+     * Invoked if the given value couldn't be converted. Invoked before
+     * {@link #conversionFinished(Binding, ConversionDirection)}.
+     */
+    void conversionFailed(Binding<?, ?> binding, ConversionDirection direction, Object value,
+            ConversionException exception);
+
+    /**
+     * Invoked after a value has been converted in the given direction, no
+     * matter whether the conversion succeeded.
+     */
+    void conversionFinished(Binding<?, ?> binding, ConversionDirection direction);
+
+    /**
+     * Invoked before a converted target value is validated. Followed by
+     * {@link #validationRan(Binding, Object, List)} on the same thread, unless
+     * the validation failed with an exception.
+     */
+    void validationStarted(Binding<?, ?> binding);
+
+    /**
+     * Invoked after the given converted target value has been validated.
+     * 
+     * @param violations The violations of the value or <code>null</code> if it
+     *        couldn't be validated.
+     */
+    void validationRan(Binding<?, ?> binding, Object value, List<BindingViolation> violations);
+
+    /**
+     * Invoked after the given value has been written to the model property of
+     * the given binding.
+     */
+    void modelWritten(Binding<?, ?> binding, Object value);
+
+    /**
+     * Invoked after the given value has been written to the target property of
+     * the given binding.
+     */
+    void targetWritten(Binding<?, ?> binding, Object value);
+
+}
@@ -0,0 +1,79 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.metrics;
+
+import de.gmorling.jxbinding.Binding;
+
+/**
+ * Records the duration of the operations performed by the bindings of a
+ * {@link de.gmorling.jxbinding.BindingContext}. Implementations must be
+ * thread-safe, as validations may run on a background thread.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public interface BindingMetrics {
+
+    /**
+     * The operations measured by the binding framework.
+     */
+    enum Operation {
+
+        /**
+         * The conversion of a target value into a model value.
+         */
+        CONVERSION_TO_MODEL,
+
+        /**
+         * The conversion of a model value into a target value.
+         */
+        CONVERSION_TO_TARGET,
+
+        /**
+         * The Bean Validation of a converted target value.
+         */
+        VALIDATION,
+
+        /**
+         * The dispatch of a change event of a bound property to a binding.
+         */
+        LISTENER_DISPATCH,
+
+        /**
+         * The recomputation of the violations and validity of a binding
+         * context after the violations of one of its bindings changed.
+         */
+        VIOLATION_AGGREGATION;
+    }
+
+    /**
+     * Whether operations should be measured at all. If <code>false</code> is
+     * returned, {@link #record(Operation, Binding, long)} won't be invoked and
+     * no time stamps will be taken.
+     */
+    boolean isEnabled();
+
+    /**
+     * Records one execution of the given operation.
+     * 
+     * @param operation The executed operation.
+     * @param binding The binding which executed the operation or
+     *        <code>null</code> for operations of the context itself.
+     * @param durationNanos The duration of the operation in nano seconds.
+     */
+    void record(Operation operation, Binding<?, ?> binding, long durationNanos);
+
+}
@@ -0,0 +1,249 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import de.gmorling.jxbinding.Binding;
+
+/**
+ * A {@link BindingMetrics} which counts the executions of each operation and
+ * keeps {@link LatencyHistogram}s of their durations, both in total and per
+ * binding. The metrics can be published as MBean using
+ * {@link #registerMBean(String)}. One instance may be shared by several
+ * binding contexts.
+ * <p>
+ * Statistics of single bindings are held weakly, so they don't prevent
+ * bindings from being garbage collected.
+ * </p>
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class DefaultBindingMetrics implements BindingMetrics, DefaultBindingMetricsMBean {
+
+    private volatile Map<Operation, LatencyHistogram> totals = newHistograms();
+
+    private final Map<Binding<?, ?>, Map<Operation, LatencyHistogram>> bindingHistograms = new WeakHashMap<Binding<?, ?>, Map<Operation, LatencyHistogram>>();
+
+    private ObjectName objectName;
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void record(Operation operation, Binding<?, ?> binding, long durationNanos) {
+
+        totals.get( operation ).record( durationNanos );
+
+        if ( binding != null ) {
+            getHistograms( binding ).get( operation ).record( durationNanos );
+        }
+    }
+
+    /**
+     * Returns the histogram of all executions of the given operation.
+     */
+    public LatencyHistogram getHistogram(Operation operation) {
+        return totals.get( operation );
+    }
+
+    /**
+     * Returns the histogram of the executions of the given operation by the
+     * given binding.
+     */
+    public LatencyHistogram getHistogram(Operation operation, Binding<?, ?> binding) {
+        return getHistograms( binding ).get( operation );
+    }
+
+    private Map<Operation, LatencyHistogram> getHistograms(Binding<?, ?> binding) {
+
+        synchronized ( bindingHistograms ) {
+            Map<Operation, LatencyHistogram> histograms = bindingHistograms.get( binding );
+
+            if ( histograms == null ) {
+                histograms = newHistograms();
+                bindingHistograms.put( binding, histograms );
+            }
+
+            return histograms;
+        }
+    }
+
+    private static Map<Operation, LatencyHistogram> newHistograms() {
+
+        Map<Operation, LatencyHistogram> histograms = new EnumMap<Operation, LatencyHistogram>( Operation.class );
+
+        for ( Operation operation : Operation.values() ) {
+            histograms.put( operation, new LatencyHistogram() );
+        }
+
+        return histograms;
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under the name
+     * <code>de.gmorling.jxbinding:type=BindingMetrics,name=&lt;name&gt;</code>.
+     */
+    public synchronized void registerMBean(String name) {
+
+        if ( objectName != null ) {
+            throw new IllegalStateException( "These metrics are already registered as " + objectName + "." );
+        }
+
+        try {
+            ObjectName theObjectName = new ObjectName( "de.gmorling.jxbinding:type=BindingMetrics,name="
+                    + ObjectName.quote( name ) );
+            ManagementFactory.getPlatformMBeanServer().registerMBean( this, theObjectName );
+            objectName = theObjectName;
+        }
+        catch ( JMException e ) {
+            throw new IllegalStateException( "Couldn't register binding metrics " + name + " as MBean.", e );
+        }
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server. Has no effect if
+     * they aren't registered.
+     */
+    public synchronized void unregisterMBean() {
+
+        if ( objectName == null ) {
+            return;
+        }
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            if ( mBeanServer.isRegistered( objectName ) ) {
+                mBeanServer.unregisterMBean( objectName );
+            }
+        }
+        catch ( JMException e ) {
+            throw new IllegalStateException( "Couldn't unregister binding metrics " + objectName + ".", e );
+        }
+        finally {
+            objectName = null;
+        }
+    }
+
+    @Override
+    public long getConversionToModelCount() {
+        return totals.get( Operation.CONVERSION_TO_MODEL ).getCount();
+    }
+
+    @Override
+    public long getConversionToModelMeanNanos() {
+        return totals.get( Operation.CONVERSION_TO_MODEL ).getMeanNanos();
+    }
+
+    @Override
+    public long getConversionToTargetCount() {
+        return totals.get( Operation.CONVERSION_TO_TARGET ).getCount();
+    }
+
+    @Override
+    public long getConversionToTargetMeanNanos() {
+        return totals.get( Operation.CONVERSION_TO_TARGET ).getMeanNanos();
+    }
+
+    @Override
+    public long getValidationCount() {
+        return totals.get( Operation.VALIDATION ).getCount();
+    }
+
+    @Override
+    public long getValidationMeanNanos() {
+        return totals.get( Operation.VALIDATION ).getMeanNanos();
+    }
+
+    @Override
+    public long getListenerDispatchCount() {
+        return totals.get( Operation.LISTENER_DISPATCH ).getCount();
+    }
+
+    @Override
+    public long getListenerDispatchMeanNanos() {
+        return totals.get( Operation.LISTENER_DISPATCH ).getMeanNanos();
+    }
+
+    @Override
+    public long getViolationAggregationCount() {
+        return totals.get( Operation.VIOLATION_AGGREGATION ).getCount();
+    }
+
+    @Override
+    public long getViolationAggregationMeanNanos() {
+        return totals.get( Operation.VIOLATION_AGGREGATION ).getMeanNanos();
+    }
+
+    @Override
+    public String[] getSummary() {
+
+        Map<Operation, LatencyHistogram> theTotals = totals;
+        List<String> summary = new ArrayList<String>();
+
+        for ( Entry<Operation, LatencyHistogram> entry : theTotals.entrySet() ) {
+            summary.add( entry.getKey() + ": " + entry.getValue() );
+        }
+
+        return summary.toArray( new String[summary.size()] );
+    }
+
+    @Override
+    public String[] getBindingSummary() {
+
+        List<String> summary = new ArrayList<String>();
+
+        synchronized ( bindingHistograms ) {
+            for ( Entry<Binding<?, ?>, Map<Operation, LatencyHistogram>> bindingEntry : bindingHistograms.entrySet() ) {
+                for ( Entry<Operation, LatencyHistogram> entry : bindingEntry.getValue().entrySet() ) {
+                    if ( entry.getValue().getCount() > 0 ) {
+                        summary.add( bindingEntry.getKey() + " " + entry.getKey() + ": " + entry.getValue() );
+                    }
+                }
+            }
+        }
+
+        return summary.toArray( new String[summary.size()] );
+    }
+
+    /**
+     * Discards all recorded statistics.
+     */
+    @Override
+    public void reset() {
+
+        totals = newHistograms();
+
+        synchronized ( bindingHistograms ) {
+            bindingHistograms.clear();
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.metrics;
+
+/**
+ * Management interface of {@link DefaultBindingMetrics}. All durations are
+ * given in nano seconds.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public interface DefaultBindingMetricsMBean {
+
+    long getConversionToModelCount();
+
+    long getConversionToModelMeanNanos();
+
+    long getConversionToTargetCount();
+
+    long getConversionToTargetMeanNanos();
+
+    long getValidationCount();
+
+    long getValidationMeanNanos();
+
+    long getListenerDispatchCount();
+
+    long getListenerDispatchMeanNanos();
+
+    long getViolationAggregationCount();
+
+    long getViolationAggregationMeanNanos();
+
+    /**
+     * Returns one line per operation with its count, mean duration and
+     * percentiles.
+     */
+    String[] getSummary();
+
+    /**
+     * Returns one line per binding and operation with its count, mean duration
+     * and percentiles.
+     */
+    String[] getBindingSummary();
+
+    void reset();
+
+}
@@ -0,0 +1,92 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of operation durations with buckets of exponentially growing
+ * width, i.e. bucket <i>n</i> counts all durations of less than
+ * 2<sup><i>n</i></sup> nano seconds which didn't fall into a previous bucket.
+ * Recording is lock-free, so reading while recording may yield a slightly
+ * inconsistent snapshot.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class LatencyHistogram {
+
+    private final AtomicLongArray buckets = new AtomicLongArray( 64 );
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    public void record(long durationNanos) {
+
+        long duration = Math.max( durationNanos, 0 );
+
+        buckets.incrementAndGet( 64 - Long.numberOfLeadingZeros( duration ) );
+        count.incrementAndGet();
+        totalNanos.addAndGet( duration );
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    public long getMeanNanos() {
+
+        long theCount = count.get();
+        return theCount == 0 ? 0 : totalNanos.get() / theCount;
+    }
+
+    /**
+     * Returns an upper bound for the given percentile of the recorded
+     * durations, e.g. <code>getPercentileNanos(0.99)</code> returns a value
+     * which at least 99 percent of the durations didn't exceed.
+     */
+    public long getPercentileNanos(double percentile) {
+
+        if ( percentile < 0 || percentile > 1 ) {
+            throw new IllegalArgumentException( "The percentile must be between 0 and 1, but was " + percentile + "." );
+        }
+
+        long threshold = (long) Math.ceil( count.get() * percentile );
+        long seen = 0;
+
+        for ( int i = 0; i < 64; i++ ) {
+            seen += buckets.get( i );
+
+            if ( seen >= threshold && seen > 0 ) {
+                return i == 63 ? Long.MAX_VALUE : ( 1L << i ) - 1;
+            }
+        }
+
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getCount() + ", mean=" + getMeanNanos() + "ns, p50<=" + getPercentileNanos( 0.5 )
+                + "ns, p99<=" + getPercentileNanos( 0.99 ) + "ns";
+    }
+}
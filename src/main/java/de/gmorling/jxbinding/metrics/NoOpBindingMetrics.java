@@ -0,0 +1,42 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.metrics;
+
+import de.gmorling.jxbinding.Binding;
+
+/**
+ * A {@link BindingMetrics} which doesn't record anything. Used by default.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class NoOpBindingMetrics implements BindingMetrics {
+
+    public final static NoOpBindingMetrics INSTANCE = new NoOpBindingMetrics();
+
+    private NoOpBindingMetrics() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void record(Operation operation, Binding<?, ?> binding, long durationNanos) {
+    }
+
+}
@@ -0,0 +1,163 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.validation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+/**
+ * Caches the constraint meta-data of bean types, so that it is retrieved from
+ * the validator only once per type. Safe for concurrent use.
+ * <p>
+ * Constraints can only be evaluated by invoking their validators directly if
+ * the factory of the validator is known, as its constraint validator factory
+ * and message interpolator must be used; otherwise they are evaluated by the
+ * validator.
+ * </p>
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class ConstraintMetadataCache {
+
+    private final Validator validator;
+
+    private final ValidatorFactory validatorFactory;
+
+    private final ConcurrentMap<Class<?>, BeanDescriptor> beanDescriptors = new ConcurrentHashMap<Class<?>, BeanDescriptor>();
+
+    private final ConcurrentMap<PropertyKey, ValidationPipeline> validationPipelines = new ConcurrentHashMap<PropertyKey, ValidationPipeline>();
+
+    private final ConcurrentMap<Class<?>, CrossFieldConstraints> crossFieldConstraints = new ConcurrentHashMap<Class<?>, CrossFieldConstraints>();
+
+    /**
+     * Creates a new cache for the given validator.
+     * 
+     * @param validatorFactory
+     *            The factory which created the given validator or
+     *            <code>null</code> if it isn't known.
+     */
+    public ConstraintMetadataCache(Validator validator, ValidatorFactory validatorFactory) {
+        this.validator = validator;
+        this.validatorFactory = validatorFactory;
+    }
+
+    public Validator getValidator() {
+        return validator;
+    }
+
+    public BeanDescriptor getBeanDescriptor(Class<?> beanClass) {
+
+        BeanDescriptor beanDescriptor = beanDescriptors.get( beanClass );
+
+        if ( beanDescriptor == null ) {
+            beanDescriptor = validator.getConstraintsForClass( beanClass );
+            BeanDescriptor existing = beanDescriptors.putIfAbsent( beanClass, beanDescriptor );
+            if ( existing != null ) {
+                beanDescriptor = existing;
+            }
+        }
+
+        return beanDescriptor;
+    }
+
+    /**
+     * Returns the descriptor for the given property or <code>null</code> if
+     * the property doesn't exist or hosts no constraints.
+     */
+    public PropertyDescriptor getPropertyDescriptor(Class<?> beanClass, String propertyName) {
+        return getBeanDescriptor( beanClass ).getConstraintsForProperty( propertyName );
+    }
+
+    /**
+     * Returns the class-level constraints of the given type, indexed by the
+     * properties they read.
+     */
+    public CrossFieldConstraints getCrossFieldConstraints(Class<?> beanClass) {
+
+        CrossFieldConstraints constraints = crossFieldConstraints.get( beanClass );
+
+        if ( constraints == null ) {
+            constraints = new CrossFieldConstraints( beanClass, getBeanDescriptor( beanClass ), validator,
+                    validatorFactory );
+            CrossFieldConstraints existing = crossFieldConstraints.putIfAbsent( beanClass, constraints );
+            if ( existing != null ) {
+                constraints = existing;
+            }
+        }
+
+        return constraints;
+    }
+
+    /**
+     * Returns the pipeline for evaluating the constraints of the given
+     * property ordered by cost.
+     */
+    public ValidationPipeline getValidationPipeline(Class<?> beanClass, String propertyName) {
+
+        PropertyKey key = new PropertyKey( beanClass, propertyName );
+        ValidationPipeline pipeline = validationPipelines.get( key );
+
+        if ( pipeline == null ) {
+            pipeline = new ValidationPipeline( beanClass, getPropertyDescriptor( beanClass, propertyName ),
+                    validatorFactory );
+            ValidationPipeline existing = validationPipelines.putIfAbsent( key, pipeline );
+            if ( existing != null ) {
+                pipeline = existing;
+            }
+        }
+
+        return pipeline;
+    }
+
+    public boolean isPropertyConstrained(Class<?> beanClass, String propertyName) {
+        return getPropertyDescriptor( beanClass, propertyName ) != null;
+    }
+
+    private static class PropertyKey {
+
+        private final Class<?> beanClass;
+        private final String propertyName;
+
+        private PropertyKey(Class<?> beanClass, String propertyName) {
+            this.beanClass = beanClass;
+            this.propertyName = propertyName;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if ( this == obj ) {
+                return true;
+            }
+            if ( obj == null || getClass() != obj.getClass() ) {
+                return false;
+            }
+            PropertyKey other = (PropertyKey) obj;
+            return beanClass == other.beanClass && propertyName.equals( other.propertyName );
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * beanClass.hashCode() + propertyName.hashCode();
+        }
+    }
+
+}
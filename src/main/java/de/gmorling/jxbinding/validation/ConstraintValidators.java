@@ -0,0 +1,141 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.validation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.MessageInterpolator;
+import javax.validation.ValidationException;
+import javax.validation.metadata.ConstraintDescriptor;
+
+/**
+ * Helpers for invoking constraint validators directly, i.e. without going
+ * through a {@link javax.validation.Validator}.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+/* package private */final class ConstraintValidators {
+
+    private ConstraintValidators() {
+    }
+
+    /**
+     * Returns the validator class of the given constraint which is applicable
+     * to the given type or <code>null</code> if there is no such class. If
+     * several classes are applicable, the most specific one is returned.
+     */
+    public static Class<? extends ConstraintValidator<?, ?>> getValidatorClass(ConstraintDescriptor<?> descriptor,
+            Class<?> validatedType) {
+
+        Class<? extends ConstraintValidator<?, ?>> validatorClass = null;
+        Class<?> mostSpecificType = null;
+
+        for ( Class<? extends ConstraintValidator<?, ?>> oneValidatorClass : descriptor
+                .getConstraintValidatorClasses() ) {
+
+            Class<?> oneValidatedType = getValidatedType( oneValidatorClass );
+
+            if ( oneValidatedType.isAssignableFrom( validatedType )
+                    && ( mostSpecificType == null || mostSpecificType.isAssignableFrom( oneValidatedType ) ) ) {
+                validatorClass = oneValidatorClass;
+                mostSpecificType = oneValidatedType;
+            }
+        }
+
+        return validatorClass;
+    }
+
+    private static Class<?> getValidatedType(Class<?> validatorClass) {
+
+        for ( Class<?> clazz = validatorClass; clazz != null; clazz = clazz.getSuperclass() ) {
+            for ( Type oneInterface : clazz.getGenericInterfaces() ) {
+
+                if ( oneInterface instanceof ParameterizedType
+                        && ( (ParameterizedType) oneInterface ).getRawType() == ConstraintValidator.class ) {
+
+                    Type validatedType = ( (ParameterizedType) oneInterface ).getActualTypeArguments()[1];
+
+                    if ( validatedType instanceof Class ) {
+                        return (Class<?>) validatedType;
+                    }
+                    if ( validatedType instanceof ParameterizedType ) {
+                        return (Class<?>) ( (ParameterizedType) validatedType ).getRawType();
+                    }
+                    return Object.class;
+                }
+            }
+        }
+
+        return Object.class;
+    }
+
+    /**
+     * Retrieves an instance of the given validator class from the given
+     * factory and initializes it for the given constraint.
+     */
+    @SuppressWarnings("unchecked")
+    public static ConstraintValidator<Annotation, Object> createValidator(
+            ConstraintValidatorFactory constraintValidatorFactory, ConstraintDescriptor<?> descriptor,
+            Class<? extends ConstraintValidator<?, ?>> validatorClass) {
+
+        ConstraintValidator<Annotation, Object> validator = (ConstraintValidator<Annotation, Object>) constraintValidatorFactory
+                .getInstance( validatorClass );
+
+        if ( validator == null ) {
+            throw new ValidationException( "Constraint validator factory returned no instance of " + validatorClass );
+        }
+
+        validator.initialize( descriptor.getAnnotation() );
+
+        return validator;
+    }
+
+    /**
+     * Interpolates the given message template of the given constraint using
+     * the given message interpolator.
+     */
+    public static String interpolate(MessageInterpolator messageInterpolator, String messageTemplate,
+            ConstraintDescriptor<?> descriptor, Object validatedValue) {
+        return messageInterpolator.interpolate( messageTemplate, new InterpolatorContext( descriptor, validatedValue ) );
+    }
+
+    private static class InterpolatorContext implements MessageInterpolator.Context {
+
+        private final ConstraintDescriptor<?> descriptor;
+        private final Object validatedValue;
+
+        private InterpolatorContext(ConstraintDescriptor<?> descriptor, Object validatedValue) {
+            this.descriptor = descriptor;
+            this.validatedValue = validatedValue;
+        }
+
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return descriptor;
+        }
+
+        @Override
+        public Object getValidatedValue() {
+            return validatedValue;
+        }
+    }
+
+}
@@ -0,0 +1,329 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.validation;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import javax.validation.Path;
+import javax.validation.Validator;
+import javax.validation.metadata.ConstraintDescriptor;
+
+/**
+ * A class-level constraint together with the bean properties it reads. If
+ * possible, the validators of the constraint and its composing constraints
+ * are invoked directly, bypassing the validation of the complete bean by the
+ * {@link Validator}. Otherwise, e.g. if the validator factory isn't known,
+ * the bean is validated by the validator and the violations of this
+ * constraint are retained.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class CrossFieldConstraint {
+
+    private final ConstraintDescriptor<?> descriptor;
+
+    private final Class<? extends ConstraintValidator<?, ?>> validatorClass;
+
+    private final CrossFieldConstraint[] composingConstraints;
+
+    /**
+     * The names of the properties read by the constraint or an empty set if
+     * they are unknown.
+     */
+    private final Set<String> propertyNames;
+
+    private final ConstraintValidatorFactory constraintValidatorFactory;
+
+    private final MessageInterpolator messageInterpolator;
+
+    /**
+     * The validator validating the complete bean if this constraint can't be
+     * evaluated directly, <code>null</code> otherwise.
+     */
+    private final Validator beanValidator;
+
+    /**
+     * The annotations of this constraint and its composing constraints, by
+     * which its violations are recognized when validating the complete bean.
+     */
+    private final Set<Annotation> annotations;
+
+    private volatile ConstraintValidator<Annotation, Object> validator;
+
+    /**
+     * Creates a constraint which is evaluated by invoking the given validator
+     * class (if any) and the given composing constraints directly.
+     */
+    /* package private */CrossFieldConstraint(ConstraintDescriptor<?> descriptor,
+            Class<? extends ConstraintValidator<?, ?>> validatorClass, CrossFieldConstraint[] composingConstraints,
+            Set<String> propertyNames, ConstraintValidatorFactory constraintValidatorFactory,
+            MessageInterpolator messageInterpolator) {
+        this.descriptor = descriptor;
+        this.validatorClass = validatorClass;
+        this.composingConstraints = composingConstraints;
+        this.propertyNames = Collections.unmodifiableSet( propertyNames );
+        this.constraintValidatorFactory = constraintValidatorFactory;
+        this.messageInterpolator = messageInterpolator;
+        this.beanValidator = null;
+        this.annotations = null;
+    }
+
+    /**
+     * Creates a constraint which is evaluated by validating the complete bean
+     * with the given validator.
+     */
+    /* package private */CrossFieldConstraint(ConstraintDescriptor<?> descriptor, Set<String> propertyNames,
+            Validator beanValidator) {
+        this.descriptor = descriptor;
+        this.validatorClass = null;
+        this.composingConstraints = null;
+        this.propertyNames = Collections.unmodifiableSet( propertyNames );
+        this.constraintValidatorFactory = null;
+        this.messageInterpolator = null;
+        this.beanValidator = beanValidator;
+        this.annotations = new HashSet<Annotation>();
+        addAnnotations( descriptor, annotations );
+    }
+
+    private static void addAnnotations(ConstraintDescriptor<?> descriptor, Set<Annotation> annotations) {
+
+        annotations.add( descriptor.getAnnotation() );
+
+        for ( ConstraintDescriptor<?> oneComposingDescriptor : descriptor.getComposingConstraints() ) {
+            addAnnotations( oneComposingDescriptor, annotations );
+        }
+    }
+
+    public ConstraintDescriptor<?> getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Returns the names of the properties read by this constraint, as far as
+     * they could be determined from its attributes.
+     */
+    public Set<String> getPropertyNames() {
+        return propertyNames;
+    }
+
+    /**
+     * Whether this constraint may read the given property. That's the case if
+     * the property is named by one of the constraint's attributes or if the
+     * read properties are unknown.
+     */
+    public boolean reads(String propertyName) {
+        return propertyNames.isEmpty() || propertyNames.contains( propertyName );
+    }
+
+    /**
+     * Validates the given bean against this constraint.
+     * 
+     * @return The violations of this constraint, or an empty list if the
+     *         constraint is satisfied.
+     */
+    public List<Violation> validate(Object bean) {
+
+        if ( beanValidator != null ) {
+            return getViolations( bean, beanValidator.validate( bean ) );
+        }
+
+        List<Violation> violations = new ArrayList<Violation>( 1 );
+
+        if ( evaluate( bean, violations ) ) {
+            return Collections.emptyList();
+        }
+
+        return violations;
+    }
+
+    /**
+     * Evaluates this constraint by invoking its validator and those of its
+     * composing constraints, adding the violations to the given list unless
+     * it is <code>null</code>.
+     * 
+     * @return Whether the given bean satisfies this constraint.
+     */
+    private boolean evaluate(Object bean, List<Violation> violations) {
+
+        boolean isValid = true;
+
+        // violations of the composing constraints are replaced by the
+        // composed constraint's violation if it is reported as single
+        // violation
+        boolean reportAsSingleViolation = descriptor.isReportAsSingleViolation();
+        List<Violation> ownViolations = reportAsSingleViolation ? null : violations;
+
+        for ( CrossFieldConstraint oneComposingConstraint : composingConstraints ) {
+
+            if ( !oneComposingConstraint.evaluate( bean, ownViolations ) ) {
+
+                isValid = false;
+
+                if ( reportAsSingleViolation ) {
+                    break;
+                }
+            }
+        }
+
+        if ( validatorClass != null && ( isValid || !reportAsSingleViolation ) ) {
+
+            DirectConstraintValidatorContext context = new DirectConstraintValidatorContext( (String) descriptor
+                    .getAttributes().get( "message" ) );
+
+            if ( !getValidator().isValid( bean, context ) ) {
+
+                isValid = false;
+
+                if ( ownViolations != null ) {
+                    for ( DirectConstraintValidatorContext.ReportedViolation oneViolation : context.getViolations() ) {
+                        ownViolations.add( new Violation( ConstraintValidators.interpolate( messageInterpolator,
+                                oneViolation.getMessageTemplate(), descriptor, bean ), oneViolation
+                                .getPropertyName() ) );
+                    }
+                }
+            }
+        }
+
+        if ( !isValid && reportAsSingleViolation && violations != null ) {
+            violations.add( new Violation( ConstraintValidators.interpolate( messageInterpolator,
+                    (String) descriptor.getAttributes().get( "message" ), descriptor, bean ), null ) );
+        }
+
+        return isValid;
+    }
+
+    /**
+     * Whether this constraint is evaluated by validating the complete bean.
+     * If so, the bean should be validated once for all such constraints and
+     * the result be passed to {@link #getViolations(Object, Set)}.
+     */
+    public boolean isValidatedWithBean() {
+        return beanValidator != null;
+    }
+
+    /**
+     * Returns the violations of this constraint among the given violations of
+     * the complete bean.
+     */
+    public List<Violation> getViolations(Object bean, Set<? extends ConstraintViolation<?>> beanViolations) {
+
+        List<Violation> violations = null;
+
+        for ( ConstraintViolation<?> oneViolation : beanViolations ) {
+
+            if ( oneViolation.getLeafBean() != bean
+                    || !annotations.contains( oneViolation.getConstraintDescriptor().getAnnotation() ) ) {
+                continue;
+            }
+
+            if ( violations == null ) {
+                violations = new ArrayList<Violation>( 1 );
+            }
+
+            violations.add( new Violation( oneViolation.getMessage(), getPropertyName( oneViolation
+                    .getPropertyPath() ) ) );
+        }
+
+        return violations != null ? violations : Collections.<Violation> emptyList();
+    }
+
+    /**
+     * Returns the name of the last node of the given path, which is
+     * <code>null</code> for violations reported for the bean itself.
+     */
+    private static String getPropertyName(Path propertyPath) {
+
+        String propertyName = null;
+
+        for ( Path.Node oneNode : propertyPath ) {
+            propertyName = oneNode.getName();
+        }
+
+        return propertyName;
+    }
+
+    /**
+     * Whether the given violation of this constraint is to be reported for
+     * the given property.
+     */
+    public boolean isReportedFor(Violation violation, String propertyName) {
+        return violation.getPropertyName() != null ? violation.getPropertyName().equals( propertyName )
+                : reads( propertyName );
+    }
+
+    private ConstraintValidator<Annotation, Object> getValidator() {
+
+        ConstraintValidator<Annotation, Object> constraintValidator = validator;
+
+        if ( constraintValidator == null ) {
+            constraintValidator = ConstraintValidators.createValidator( constraintValidatorFactory, descriptor,
+                    validatorClass );
+            validator = constraintValidator;
+        }
+
+        return constraintValidator;
+    }
+
+    @Override
+    public String toString() {
+        return "CrossFieldConstraint [constraint=" + descriptor.getAnnotation() + ", propertyNames=" + propertyNames
+                + "]";
+    }
+
+    /**
+     * A violation of a cross-field constraint.
+     */
+    public static class Violation {
+
+        private final String message;
+
+        private final String propertyName;
+
+        public Violation(String message, String propertyName) {
+            this.message = message;
+            this.propertyName = propertyName;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        /**
+         * Returns the name of the property the violation was reported for by
+         * the constraint validator or <code>null</code> if it was reported for
+         * the bean.
+         */
+        public String getPropertyName() {
+            return propertyName;
+        }
+
+        @Override
+        public String toString() {
+            return "Violation [message=" + message + ", propertyName=" + propertyName + "]";
+        }
+    }
+
+}
@@ -0,0 +1,267 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.validation;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.MessageInterpolator;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.groups.Default;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstraintDescriptor;
+
+/**
+ * The cross-field constraints of a bean type, i.e. its class-level
+ * constraints, indexed by the properties they read. As Bean Validation
+ * provides no information about the properties read by a constraint, these
+ * are determined heuristically: each <code>String</code> or
+ * <code>String[]</code> attribute of a constraint annotation whose value is
+ * the name of a property of the bean type (e.g.
+ * <code>@DateRange(start="startDate", end="endDate")</code>) is considered as
+ * read by the constraint. Constraints without any such attribute are
+ * considered to read all properties.
+ * <p>
+ * Constraints composed of other constraints are evaluated by invoking the
+ * validators of all of them directly. Constraints which can't be evaluated
+ * that way, e.g. because the validator factory isn't known, are evaluated by
+ * validating the complete bean. A composed constraint reads the properties
+ * named by its own attributes and those of its composing constraints.
+ * </p>
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class CrossFieldConstraints {
+
+    private final static Set<String> RESERVED_ATTRIBUTES = new HashSet<String>();
+
+    static {
+        RESERVED_ATTRIBUTES.add( "message" );
+        RESERVED_ATTRIBUTES.add( "groups" );
+        RESERVED_ATTRIBUTES.add( "payload" );
+    }
+
+    private final List<CrossFieldConstraint> constraints;
+
+    private final Map<String, List<CrossFieldConstraint>> constraintsByProperty;
+
+    /**
+     * Constraints whose read properties are unknown.
+     */
+    private final List<CrossFieldConstraint> constraintsReadingAll;
+
+    /* package private */CrossFieldConstraints(Class<?> beanClass, BeanDescriptor beanDescriptor, Validator validator,
+            ValidatorFactory validatorFactory) {
+
+        Set<String> beanPropertyNames = getPropertyNames( beanClass );
+
+        constraints = new ArrayList<CrossFieldConstraint>();
+        constraintsByProperty = new HashMap<String, List<CrossFieldConstraint>>();
+        constraintsReadingAll = new ArrayList<CrossFieldConstraint>();
+
+        ConstraintValidatorFactory constraintValidatorFactory = validatorFactory != null ? validatorFactory
+                .getConstraintValidatorFactory() : null;
+        MessageInterpolator messageInterpolator = validatorFactory != null ? validatorFactory.getMessageInterpolator()
+                : null;
+
+        for ( ConstraintDescriptor<?> oneDescriptor : beanDescriptor.getConstraintDescriptors() ) {
+
+            // only constraints of the default group are validated incrementally
+            if ( !oneDescriptor.getGroups().contains( Default.class ) ) {
+                continue;
+            }
+
+            Set<String> propertyNames = getReadProperties( oneDescriptor, beanPropertyNames );
+            CrossFieldConstraint constraint = validatorFactory != null ? createConstraint( oneDescriptor, beanClass,
+                    propertyNames, constraintValidatorFactory, messageInterpolator ) : null;
+
+            if ( constraint == null ) {
+                constraint = new CrossFieldConstraint( oneDescriptor, propertyNames, validator );
+            }
+
+            constraints.add( constraint );
+
+            if ( propertyNames.isEmpty() ) {
+                constraintsReadingAll.add( constraint );
+            }
+
+            for ( String onePropertyName : propertyNames ) {
+
+                List<CrossFieldConstraint> constraintsOfProperty = constraintsByProperty.get( onePropertyName );
+
+                if ( constraintsOfProperty == null ) {
+                    constraintsOfProperty = new ArrayList<CrossFieldConstraint>( 1 );
+                    constraintsByProperty.put( onePropertyName, constraintsOfProperty );
+                }
+
+                constraintsOfProperty.add( constraint );
+            }
+        }
+
+        for ( List<CrossFieldConstraint> constraintsOfProperty : constraintsByProperty.values() ) {
+            constraintsOfProperty.addAll( constraintsReadingAll );
+        }
+    }
+
+    /**
+     * Creates a directly evaluated constraint for the given descriptor or
+     * returns <code>null</code> if the constraint or one of its composing
+     * constraints has no validator applicable to the given type.
+     */
+    private static CrossFieldConstraint createConstraint(ConstraintDescriptor<?> descriptor, Class<?> beanClass,
+            Set<String> propertyNames, ConstraintValidatorFactory constraintValidatorFactory,
+            MessageInterpolator messageInterpolator) {
+
+        Class<? extends ConstraintValidator<?, ?>> validatorClass = ConstraintValidators.getValidatorClass(
+                descriptor, beanClass );
+        Set<ConstraintDescriptor<?>> composingDescriptors = descriptor.getComposingConstraints();
+
+        if ( validatorClass == null && composingDescriptors.isEmpty() ) {
+            return null;
+        }
+
+        CrossFieldConstraint[] composingConstraints = new CrossFieldConstraint[composingDescriptors.size()];
+        int i = 0;
+
+        for ( ConstraintDescriptor<?> oneComposingDescriptor : composingDescriptors ) {
+
+            composingConstraints[i] = createConstraint( oneComposingDescriptor, beanClass,
+                    Collections.<String> emptySet(), constraintValidatorFactory, messageInterpolator );
+
+            if ( composingConstraints[i] == null ) {
+                return null;
+            }
+
+            i++;
+        }
+
+        return new CrossFieldConstraint( descriptor, validatorClass, composingConstraints, propertyNames,
+                constraintValidatorFactory, messageInterpolator );
+    }
+
+    /**
+     * Returns the properties read by the given constraint or an empty set if
+     * they are unknown. A composed constraint additionally reads the
+     * properties of its composing constraints; if the properties of one of
+     * them are unknown, so are those of the composed constraint.
+     */
+    private static Set<String> getReadProperties(ConstraintDescriptor<?> descriptor, Set<String> beanPropertyNames) {
+
+        Set<String> propertyNames = new HashSet<String>();
+
+        for ( ConstraintDescriptor<?> oneComposingDescriptor : descriptor.getComposingConstraints() ) {
+
+            Set<String> composingPropertyNames = getReadProperties( oneComposingDescriptor, beanPropertyNames );
+
+            if ( composingPropertyNames.isEmpty() ) {
+                return composingPropertyNames;
+            }
+
+            propertyNames.addAll( composingPropertyNames );
+        }
+
+        for ( Map.Entry<String, Object> oneAttribute : descriptor.getAttributes().entrySet() ) {
+
+            if ( RESERVED_ATTRIBUTES.contains( oneAttribute.getKey() ) ) {
+                continue;
+            }
+
+            Object value = oneAttribute.getValue();
+
+            if ( value instanceof String && beanPropertyNames.contains( value ) ) {
+                propertyNames.add( (String) value );
+            }
+            else if ( value instanceof String[] ) {
+                for ( String oneValue : (String[]) value ) {
+                    if ( beanPropertyNames.contains( oneValue ) ) {
+                        propertyNames.add( oneValue );
+                    }
+                }
+            }
+        }
+
+        return propertyNames;
+    }
+
+    /**
+     * Returns the names of the properties of the given type, based on its
+     * public getters and JavaFX property accessors.
+     */
+    private static Set<String> getPropertyNames(Class<?> beanClass) {
+
+        Set<String> propertyNames = new HashSet<String>();
+
+        for ( Method oneMethod : beanClass.getMethods() ) {
+
+            if ( oneMethod.getParameterTypes().length != 0 || Modifier.isStatic( oneMethod.getModifiers() ) ) {
+                continue;
+            }
+
+            String name = oneMethod.getName();
+
+            if ( name.startsWith( "get" ) && name.length() > 3 ) {
+                propertyNames.add( decapitalize( name.substring( 3 ) ) );
+            }
+            else if ( name.startsWith( "is" ) && name.length() > 2 ) {
+                propertyNames.add( decapitalize( name.substring( 2 ) ) );
+            }
+            else if ( name.endsWith( "Property" ) && name.length() > 8 ) {
+                propertyNames.add( name.substring( 0, name.length() - 8 ) );
+            }
+        }
+
+        return propertyNames;
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase( name.charAt( 0 ) ) + name.substring( 1 );
+    }
+
+    /**
+     * Returns all cross-field constraints of the bean type.
+     */
+    public List<CrossFieldConstraint> getConstraints() {
+        return Collections.unmodifiableList( constraints );
+    }
+
+    /**
+     * Returns the cross-field constraints which may read the given property,
+     * i.e. which must be re-evaluated if the property changed.
+     */
+    public List<CrossFieldConstraint> getConstraintsReading(String propertyName) {
+
+        List<CrossFieldConstraint> constraintsOfProperty = constraintsByProperty.get( propertyName );
+
+        return Collections.unmodifiableList( constraintsOfProperty != null ? constraintsOfProperty
+                : constraintsReadingAll );
+    }
+
+    public boolean isEmpty() {
+        return constraints.isEmpty();
+    }
+
+}
@@ -0,0 +1,58 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.validation;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+/**
+ * A {@link ValidatorFactoryProvider} which bootstraps the default validator factory
+ * upon first usage and shares the retrieved validator across all binding
+ * contexts.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class DefaultValidatorProvider implements ValidatorFactoryProvider {
+
+    public final static DefaultValidatorProvider INSTANCE = new DefaultValidatorProvider();
+
+    private DefaultValidatorProvider() {
+    }
+
+    @Override
+    public Validator getValidator() {
+        return ValidatorHolder.VALIDATOR;
+    }
+
+    @Override
+    public ValidatorFactory getValidatorFactory() {
+        return ValidatorHolder.VALIDATOR_FACTORY;
+    }
+
+    /**
+     * Lazily initialized upon first access by the class loader, which
+     * guarantees a single, safely published bootstrap.
+     */
+    private static class ValidatorHolder {
+
+        private final static ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+
+        private final static Validator VALIDATOR = VALIDATOR_FACTORY.getValidator();
+    }
+
+}
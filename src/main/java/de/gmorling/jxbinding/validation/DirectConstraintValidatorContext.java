@@ -0,0 +1,147 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintValidatorContext.ConstraintViolationBuilder.NodeBuilderCustomizableContext;
+import javax.validation.ConstraintValidatorContext.ConstraintViolationBuilder.NodeBuilderDefinedContext;
+import javax.validation.ConstraintValidatorContext.ConstraintViolationBuilder.NodeContextBuilder;
+
+/**
+ * The context passed to constraint validators which are invoked directly. It
+ * collects the reported violations together with the name of the first node
+ * added to them, which identifies the property a violation is reported for.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+/* package private */class DirectConstraintValidatorContext implements ConstraintValidatorContext {
+
+    private final String defaultMessageTemplate;
+
+    private final List<ReportedViolation> violations = new ArrayList<ReportedViolation>( 1 );
+
+    private boolean defaultViolationDisabled;
+
+    public DirectConstraintValidatorContext(String defaultMessageTemplate) {
+        this.defaultMessageTemplate = defaultMessageTemplate;
+    }
+
+    @Override
+    public void disableDefaultConstraintViolation() {
+        defaultViolationDisabled = true;
+    }
+
+    @Override
+    public String getDefaultConstraintMessageTemplate() {
+        return defaultMessageTemplate;
+    }
+
+    @Override
+    public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+        return new ViolationBuilder( messageTemplate );
+    }
+
+    /**
+     * Returns the violations reported by the validator, including the default
+     * violation unless it was disabled.
+     */
+    public List<ReportedViolation> getViolations() {
+
+        if ( defaultViolationDisabled ) {
+            return violations;
+        }
+
+        List<ReportedViolation> allViolations = new ArrayList<ReportedViolation>( violations.size() + 1 );
+        allViolations.add( new ReportedViolation( defaultMessageTemplate, null ) );
+        allViolations.addAll( violations );
+
+        return allViolations;
+    }
+
+    /**
+     * A violation reported by a constraint validator.
+     */
+    public static class ReportedViolation {
+
+        private final String messageTemplate;
+        private final String propertyName;
+
+        public ReportedViolation(String messageTemplate, String propertyName) {
+            this.messageTemplate = messageTemplate;
+            this.propertyName = propertyName;
+        }
+
+        public String getMessageTemplate() {
+            return messageTemplate;
+        }
+
+        public String getPropertyName() {
+            return propertyName;
+        }
+    }
+
+    /**
+     * Builds a violation; only the first node is retained, any further nodes
+     * and iterable details are ignored.
+     */
+    private class ViolationBuilder implements ConstraintViolationBuilder, NodeBuilderDefinedContext,
+            NodeBuilderCustomizableContext, NodeContextBuilder {
+
+        private final String messageTemplate;
+
+        private String propertyName;
+
+        private ViolationBuilder(String messageTemplate) {
+            this.messageTemplate = messageTemplate;
+        }
+
+        @Override
+        public ViolationBuilder addNode(String name) {
+
+            if ( propertyName == null ) {
+                propertyName = name;
+            }
+
+            return this;
+        }
+
+        @Override
+        public NodeContextBuilder inIterable() {
+            return this;
+        }
+
+        @Override
+        public NodeBuilderDefinedContext atKey(Object key) {
+            return this;
+        }
+
+        @Override
+        public NodeBuilderDefinedContext atIndex(Integer index) {
+            return this;
+        }
+
+        @Override
+        public ConstraintValidatorContext addConstraintViolation() {
+            violations.add( new ReportedViolation( messageTemplate, propertyName ) );
+            return DirectConstraintValidatorContext.this;
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the relative cost of evaluating a constraint, which determines the
+ * order of evaluation in fail-fast mode: cheaper constraints are evaluated
+ * first, so that expensive ones are skipped if a cheap one already failed.
+ * May be given on a constraint annotation type or on a constraint validator
+ * class, the latter taking precedence. Constraints without declared cost are
+ * considered to have cost {@link #DEFAULT}, the built-in constraints of the
+ * Bean Validation API cost {@link #BUILT_IN}. Constraints with the same cost
+ * are ordered by their measured evaluation time.
+ * 
+ * @author Gunnar Morling
+ * @see ValidationPipeline
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidationCost {
+
+    /**
+     * The cost of the built-in constraints such as <code>@NotNull</code> or
+     * <code>@Size</code>.
+     */
+    public final static int BUILT_IN = 1;
+
+    /**
+     * The cost of constraints without declared cost.
+     */
+    public final static int DEFAULT = 10;
+
+    int value();
+
+}
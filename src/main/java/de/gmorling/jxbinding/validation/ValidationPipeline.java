@@ -0,0 +1,451 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.validation;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.GroupSequence;
+import javax.validation.MessageInterpolator;
+import javax.validation.ValidatorFactory;
+import javax.validation.groups.Default;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+/**
+ * Evaluates the constraints of a bean property by invoking their validators
+ * directly, ordered by cost. In fail-fast mode the evaluation stops at the
+ * first violated constraint, so expensive constraints aren't evaluated for
+ * values which violate a cheap one anyway. Constraints are ordered by their
+ * {@link ValidationCost declared cost} and, if that is equal, by their
+ * average evaluation time measured so far. Validators are retrieved from the
+ * constraint validator factory and messages are interpolated with the message
+ * interpolator of the validator factory in use, so a pipeline can only be
+ * applied if that factory is known. Safe for concurrent use.
+ * 
+ * @author Gunnar Morling
+ * @see ConstraintMetadataCache#getValidationPipeline(Class, String)
+ */
+public class ValidationPipeline {
+
+    /**
+     * Number of validations after which the constraints are re-ordered based
+     * on their measured evaluation times.
+     */
+    private final static int REORDERING_INTERVAL = 64;
+
+    private final static Comparator<Stage> COST_ORDER = new Comparator<Stage>() {
+
+        @Override
+        public int compare(Stage o1, Stage o2) {
+
+            if ( o1.declaredCost != o2.declaredCost ) {
+                return o1.declaredCost < o2.declaredCost ? -1 : 1;
+            }
+
+            double averageNanos1 = o1.getAverageNanos();
+            double averageNanos2 = o2.getAverageNanos();
+
+            return averageNanos1 < averageNanos2 ? -1 : averageNanos1 > averageNanos2 ? 1 : 0;
+        }
+    };
+
+    private final String propertyName;
+
+    /**
+     * The constraints in the order of evaluation, or <code>null</code> if
+     * this pipeline isn't applicable.
+     */
+    private volatile Stage[] stages;
+
+    private final AtomicInteger validationCount = new AtomicInteger();
+
+    /* package private */ValidationPipeline(Class<?> beanClass, PropertyDescriptor propertyDescriptor,
+            ValidatorFactory validatorFactory) {
+
+        this.propertyName = propertyDescriptor != null ? propertyDescriptor.getPropertyName() : null;
+
+        // a redefined default group sequence requires the validator to
+        // evaluate the groups one after the other
+        if ( propertyDescriptor == null || validatorFactory == null
+                || beanClass.isAnnotationPresent( GroupSequence.class ) ) {
+            return;
+        }
+
+        ConstraintValidatorFactory constraintValidatorFactory = validatorFactory.getConstraintValidatorFactory();
+        MessageInterpolator messageInterpolator = validatorFactory.getMessageInterpolator();
+
+        Class<?> validatedType = box( getPropertyType( beanClass, propertyDescriptor ) );
+        List<Stage> constraintStages = new ArrayList<Stage>();
+
+        for ( ConstraintDescriptor<?> oneDescriptor : propertyDescriptor.getConstraintDescriptors() ) {
+
+            if ( !oneDescriptor.getGroups().contains( Default.class ) ) {
+                continue;
+            }
+
+            Stage stage = createStage( oneDescriptor, validatedType, constraintValidatorFactory, messageInterpolator );
+
+            if ( stage == null ) {
+                return;
+            }
+
+            constraintStages.add( stage );
+        }
+
+        Stage[] orderedStages = constraintStages.toArray( new Stage[constraintStages.size()] );
+        Arrays.sort( orderedStages, COST_ORDER );
+        stages = orderedStages;
+    }
+
+    /**
+     * Creates the stage for the given constraint or returns <code>null</code>
+     * if the constraint can't be evaluated directly.
+     */
+    private static Stage createStage(ConstraintDescriptor<?> descriptor, Class<?> validatedType,
+            ConstraintValidatorFactory constraintValidatorFactory, MessageInterpolator messageInterpolator) {
+
+        Class<? extends ConstraintValidator<?, ?>> validatorClass = ConstraintValidators.getValidatorClass(
+                descriptor, validatedType );
+        Set<ConstraintDescriptor<?>> composingDescriptors = descriptor.getComposingConstraints();
+
+        if ( validatorClass == null && composingDescriptors.isEmpty() ) {
+            return null;
+        }
+
+        Stage[] composingStages = new Stage[composingDescriptors.size()];
+        int i = 0;
+
+        for ( ConstraintDescriptor<?> oneComposingDescriptor : composingDescriptors ) {
+
+            composingStages[i] = createStage( oneComposingDescriptor, validatedType, constraintValidatorFactory,
+                    messageInterpolator );
+
+            if ( composingStages[i] == null ) {
+                return null;
+            }
+
+            i++;
+        }
+
+        Arrays.sort( composingStages, COST_ORDER );
+
+        return new Stage( descriptor, validatorClass, composingStages, constraintValidatorFactory,
+                messageInterpolator );
+    }
+
+    /**
+     * Returns the type of the given property. This is the return type of its
+     * getter if there is one, as the element class of the descriptor is the
+     * type of the field if there is a field of the same name, which typically
+     * is the JavaFX property holding the value.
+     */
+    private static Class<?> getPropertyType(Class<?> beanClass, PropertyDescriptor propertyDescriptor) {
+
+        String propertyName = propertyDescriptor.getPropertyName();
+        String capitalizedName = Character.toUpperCase( propertyName.charAt( 0 ) ) + propertyName.substring( 1 );
+
+        for ( String oneGetterName : new String[] { "get" + capitalizedName, "is" + capitalizedName } ) {
+            try {
+                return beanClass.getMethod( oneGetterName ).getReturnType();
+            }
+            catch ( NoSuchMethodException e ) {
+                // try next
+            }
+        }
+
+        return propertyDescriptor.getElementClass();
+    }
+
+    private static Class<?> box(Class<?> type) {
+
+        if ( !type.isPrimitive() ) {
+            return type;
+        }
+        else if ( type == int.class ) {
+            return Integer.class;
+        }
+        else if ( type == long.class ) {
+            return Long.class;
+        }
+        else if ( type == double.class ) {
+            return Double.class;
+        }
+        else if ( type == float.class ) {
+            return Float.class;
+        }
+        else if ( type == boolean.class ) {
+            return Boolean.class;
+        }
+        else if ( type == short.class ) {
+            return Short.class;
+        }
+        else if ( type == byte.class ) {
+            return Byte.class;
+        }
+        else {
+            return Character.class;
+        }
+    }
+
+    /**
+     * Whether all constraints of the property can be evaluated by this
+     * pipeline. If not, the property must be validated by the validator.
+     */
+    public boolean isApplicable() {
+        return stages != null;
+    }
+
+    /**
+     * Validates the given value against the constraints of the property.
+     * 
+     * @param failFast
+     *            Whether to stop at the first violated constraint or to
+     *            evaluate all constraints.
+     * @return The violations of the given value.
+     */
+    public List<Violation> validate(Object value, boolean failFast) {
+
+        Stage[] currentStages = stages;
+
+        if ( currentStages == null ) {
+            throw new IllegalStateException( "Property " + propertyName + " can't be validated by a pipeline" );
+        }
+
+        List<Violation> violations = null;
+
+        for ( Stage oneStage : currentStages ) {
+
+            if ( violations == null ) {
+                violations = new ArrayList<Violation>( 1 );
+            }
+
+            long start = System.nanoTime();
+            boolean isValid = oneStage.evaluate( value, violations, failFast );
+            oneStage.recordEvaluation( System.nanoTime() - start );
+
+            if ( !isValid && failFast ) {
+                break;
+            }
+        }
+
+        if ( validationCount.incrementAndGet() % REORDERING_INTERVAL == 0 ) {
+            Stage[] reorderedStages = currentStages.clone();
+            Arrays.sort( reorderedStages, COST_ORDER );
+            stages = reorderedStages;
+        }
+
+        return violations != null ? violations : Collections.<Violation> emptyList();
+    }
+
+    /**
+     * Returns the constraints of the property in their current order of
+     * evaluation.
+     */
+    public List<Annotation> getConstraints() {
+
+        Stage[] currentStages = stages;
+
+        if ( currentStages == null ) {
+            return Collections.emptyList();
+        }
+
+        List<Annotation> constraints = new ArrayList<Annotation>( currentStages.length );
+        for ( Stage oneStage : currentStages ) {
+            constraints.add( oneStage.descriptor.getAnnotation() );
+        }
+
+        return constraints;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationPipeline [propertyName=" + propertyName + ", constraints=" + getConstraints() + "]";
+    }
+
+    /**
+     * A violation of a property constraint.
+     */
+    public static class Violation {
+
+        private final String message;
+
+        private final Annotation constraint;
+
+        public Violation(String message, Annotation constraint) {
+            this.message = message;
+            this.constraint = constraint;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public Annotation getConstraint() {
+            return constraint;
+        }
+
+        @Override
+        public String toString() {
+            return "Violation [message=" + message + ", constraint=" + constraint + "]";
+        }
+    }
+
+    /**
+     * A constraint of the pipeline, possibly composed of other constraints.
+     */
+    private static class Stage {
+
+        private final ConstraintDescriptor<?> descriptor;
+
+        private final Class<? extends ConstraintValidator<?, ?>> validatorClass;
+
+        private final Stage[] composingStages;
+
+        private final int declaredCost;
+
+        private final ConstraintValidatorFactory constraintValidatorFactory;
+
+        private final MessageInterpolator messageInterpolator;
+
+        private volatile ConstraintValidator<Annotation, Object> validator;
+
+        private final AtomicLong evaluationCount = new AtomicLong();
+
+        private final AtomicLong evaluationNanos = new AtomicLong();
+
+        private Stage(ConstraintDescriptor<?> descriptor, Class<? extends ConstraintValidator<?, ?>> validatorClass,
+                Stage[] composingStages, ConstraintValidatorFactory constraintValidatorFactory,
+                MessageInterpolator messageInterpolator) {
+            this.descriptor = descriptor;
+            this.validatorClass = validatorClass;
+            this.composingStages = composingStages;
+            this.declaredCost = getDeclaredCost( descriptor, validatorClass );
+            this.constraintValidatorFactory = constraintValidatorFactory;
+            this.messageInterpolator = messageInterpolator;
+        }
+
+        private static int getDeclaredCost(ConstraintDescriptor<?> descriptor,
+                Class<? extends ConstraintValidator<?, ?>> validatorClass) {
+
+            ValidationCost cost = validatorClass != null ? validatorClass.getAnnotation( ValidationCost.class ) : null;
+
+            if ( cost != null ) {
+                return cost.value();
+            }
+
+            Class<? extends Annotation> constraintType = descriptor.getAnnotation().annotationType();
+            cost = constraintType.getAnnotation( ValidationCost.class );
+
+            if ( cost != null ) {
+                return cost.value();
+            }
+
+            return constraintType.getName().startsWith( "javax.validation.constraints." ) ? ValidationCost.BUILT_IN
+                    : ValidationCost.DEFAULT;
+        }
+
+        /**
+         * Evaluates this constraint, adding its violations to the given list
+         * unless it is <code>null</code>.
+         * 
+         * @return Whether the given value satisfies this constraint.
+         */
+        private boolean evaluate(Object value, List<Violation> violations, boolean failFast) {
+
+            boolean isValid = true;
+
+            // violations of the composing constraints are replaced by the
+            // composed constraint's violation if it is reported as single
+            // violation
+            boolean reportAsSingleViolation = descriptor.isReportAsSingleViolation();
+            List<Violation> ownViolations = reportAsSingleViolation ? null : violations;
+
+            for ( Stage oneComposingStage : composingStages ) {
+
+                if ( !oneComposingStage.evaluate( value, ownViolations, failFast ) ) {
+
+                    isValid = false;
+
+                    if ( failFast || reportAsSingleViolation ) {
+                        break;
+                    }
+                }
+            }
+
+            if ( validatorClass != null && ( isValid || !( failFast || reportAsSingleViolation ) ) ) {
+
+                String messageTemplate = (String) descriptor.getAttributes().get( "message" );
+                DirectConstraintValidatorContext context = new DirectConstraintValidatorContext( messageTemplate );
+
+                if ( !getValidator().isValid( value, context ) ) {
+
+                    isValid = false;
+
+                    if ( ownViolations != null ) {
+                        for ( DirectConstraintValidatorContext.ReportedViolation oneViolation : context
+                                .getViolations() ) {
+                            ownViolations.add( new Violation( ConstraintValidators.interpolate(
+                                    messageInterpolator, oneViolation.getMessageTemplate(), descriptor, value ),
+                                    descriptor.getAnnotation() ) );
+                        }
+                    }
+                }
+            }
+
+            if ( !isValid && reportAsSingleViolation && violations != null ) {
+                violations.add( new Violation( ConstraintValidators.interpolate( messageInterpolator,
+                        (String) descriptor.getAttributes().get( "message" ), descriptor, value ), descriptor
+                        .getAnnotation() ) );
+            }
+
+            return isValid;
+        }
+
+        private ConstraintValidator<Annotation, Object> getValidator() {
+
+            ConstraintValidator<Annotation, Object> constraintValidator = validator;
+
+            if ( constraintValidator == null ) {
+                constraintValidator = ConstraintValidators.createValidator( constraintValidatorFactory, descriptor,
+                        validatorClass );
+                validator = constraintValidator;
+            }
+
+            return constraintValidator;
+        }
+
+        private void recordEvaluation(long nanos) {
+            evaluationCount.incrementAndGet();
+            evaluationNanos.addAndGet( nanos );
+        }
+
+        private double getAverageNanos() {
+            long count = evaluationCount.get();
+            return count == 0 ? 0 : (double) evaluationNanos.get() / count;
+        }
+    }
+
+}
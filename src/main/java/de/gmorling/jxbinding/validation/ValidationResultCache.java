@@ -0,0 +1,168 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.validation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+/**
+ * A bounded cache for the results of {@link javax.validation.Validator#validateValue(Class, String, Object, Class...)}
+ * , keyed by validator, bean type, property name and value. When the maximum
+ * size is exceeded, the least recently used result is evicted. A cache may be
+ * shared by several binding contexts and is safe for concurrent use. Results
+ * are only shared between contexts using the same validator instance (as is
+ * the case for contexts using the default {@link ValidatorProvider}), as
+ * validators may differ e.g. in their message interpolator or locale.
+ * <p>
+ * Values are compared using {@link Object#equals(Object)}, so the cache should
+ * only be used for properties with immutable value types.
+ * </p>
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public class ValidationResultCache {
+
+    private final int maxSize;
+
+    private final Map<Key, Set<? extends ConstraintViolation<?>>> results;
+
+    private long hitCount;
+
+    private long missCount;
+
+    public ValidationResultCache(final int maxSize) {
+
+        if ( maxSize < 1 ) {
+            throw new IllegalArgumentException( "The maximum size must be positive, but was " + maxSize + "." );
+        }
+
+        this.maxSize = maxSize;
+        this.results = new LinkedHashMap<Key, Set<? extends ConstraintViolation<?>>>( 16, 0.75f, true ) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Entry<Key, Set<? extends ConstraintViolation<?>>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached violations for the given property value or
+     * <code>null</code> if no result is cached.
+     */
+    public synchronized Set<? extends ConstraintViolation<?>> get(Validator validator, Class<?> beanClass,
+            String propertyName, Object value) {
+
+        Set<? extends ConstraintViolation<?>> violations = results.get( new Key( validator, beanClass, propertyName,
+                value ) );
+
+        if ( violations != null ) {
+            hitCount++;
+        }
+        else {
+            missCount++;
+        }
+
+        return violations;
+    }
+
+    /**
+     * Caches the violations determined by the given validator for the given
+     * property value.
+     */
+    public synchronized void put(Validator validator, Class<?> beanClass, String propertyName, Object value,
+            Set<? extends ConstraintViolation<?>> violations) {
+        results.put( new Key( validator, beanClass, propertyName, value ), violations );
+    }
+
+    public synchronized void clear() {
+        results.clear();
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ValidationResultCache [size=" + results.size() + ", maxSize=" + maxSize + ", hitCount=" + hitCount
+                + ", missCount=" + missCount + "]";
+    }
+
+    private static class Key {
+
+        private final Validator validator;
+        private final Class<?> beanClass;
+        private final String propertyName;
+        private final Object value;
+        private final int hashCode;
+
+        private Key(Validator validator, Class<?> beanClass, String propertyName, Object value) {
+            this.validator = validator;
+            this.beanClass = beanClass;
+            this.propertyName = propertyName;
+            this.value = value;
+
+            int result = System.identityHashCode( validator );
+            result = 31 * result + beanClass.hashCode();
+            result = 31 * result + propertyName.hashCode();
+            result = 31 * result + ( value == null ? 0 : value.hashCode() );
+            this.hashCode = result;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if ( this == obj ) {
+                return true;
+            }
+            if ( !( obj instanceof Key ) ) {
+                return false;
+            }
+
+            Key other = (Key) obj;
+
+            return validator == other.validator && beanClass == other.beanClass
+                    && propertyName.equals( other.propertyName )
+                    && ( value == null ? other.value == null : value.equals( other.value ) );
+        }
+    }
+}
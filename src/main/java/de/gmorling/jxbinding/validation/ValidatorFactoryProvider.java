@@ -0,0 +1,38 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.validation;
+
+import javax.validation.ValidatorFactory;
+
+/**
+ * A {@link ValidatorProvider} which also provides the factory of its
+ * validator. The constraint validator factory and message interpolator of
+ * that factory are used when invoking constraint validators directly, e.g.
+ * for fail-fast validation. Contexts whose provider doesn't implement this
+ * interface always validate through the validator.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public interface ValidatorFactoryProvider extends ValidatorProvider {
+
+    /**
+     * Returns the factory which created the validator returned by
+     * {@link #getValidator()}.
+     */
+    ValidatorFactory getValidatorFactory();
+
+}
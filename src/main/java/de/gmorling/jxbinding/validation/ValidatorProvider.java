@@ -0,0 +1,31 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.validation;
+
+import javax.validation.Validator;
+
+/**
+ * Provides the {@link Validator} used by a {@link de.gmorling.jxbinding.BindingContext} to validate its bindings.
+ * Implementations must return a thread-safe validator and should return the same instance upon each invocation.
+ * 
+ * @author Gunnar Morling
+ * 
+ */
+public interface ValidatorProvider {
+
+    Validator getValidator();
+
+}
@@ -0,0 +1,143 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.ref.WeakReference;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.junit.Test;
+
+import de.gmorling.jxbinding.example.model.Person;
+
+public class BindingDisposalTest {
+
+	@Test
+	public void testDisposedBindingDoesNotPropagateChanges() {
+
+		//given
+		StringProperty model = new SimpleStringProperty();
+		StringProperty target = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		Binding<String, String> binding = context.bind(model).to(target);
+
+		//when
+		binding.dispose();
+		model.set("foo");
+
+		//then
+		assertThat(binding.isDisposed()).isTrue();
+		assertThat(target.getValue()).isNull();
+	}
+
+	@Test
+	public void testClosingContextRemovesViolations() {
+
+		//given
+		Person person = new Person();
+		StringProperty target = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		context.bind(person.nameProperty()).to(target);
+		target.set("Bob");
+		assertThat(context.constraintViolationsProperty().getValue()).hasSize(1);
+
+		//when
+		context.close();
+		target.set("Al");
+
+		//then
+		assertThat(context.constraintViolationsProperty().getValue()).isEmpty();
+		assertThat(context.isValidProperty().getValue()).isTrue();
+	}
+
+	@Test
+	public void testAbandonedFormIsCollectibleWithWeakListeners() throws Exception {
+
+		//given a long-living model and a form which is abandoned without closing its context
+		StringProperty model = new SimpleStringProperty();
+		WeakReference<Binding<String, String>> binding = createForm(model, true);
+
+		//when
+		awaitCollection(binding);
+
+		//then
+		assertThat(binding.get()).isNull();
+
+		//when the model changes after the form was collected
+		model.set("foo");
+
+		//then the stale listener is skipped
+		assertThat(model.get()).isEqualTo("foo");
+	}
+
+	@Test
+	public void testClosedFormIsCollectible() throws Exception {
+
+		//given
+		StringProperty model = new SimpleStringProperty();
+		BindingContext context = new BindingContext();
+		StringProperty target = new SimpleStringProperty();
+		WeakReference<Binding<String, String>> binding = new WeakReference<Binding<String, String>>(context.bind(model).to(target));
+
+		//when
+		context.close();
+		context = null;
+		target = null;
+		awaitCollection(binding);
+
+		//then
+		assertThat(binding.get()).isNull();
+	}
+
+	@Test
+	public void testAbandonedFormIsReferencedWithStrongListeners() throws Exception {
+
+		//given
+		StringProperty model = new SimpleStringProperty();
+		WeakReference<Binding<String, String>> binding = createForm(model, false);
+
+		//when the binding can't be collected, there is nothing to wait for
+		System.gc();
+
+		//then
+		assertThat(binding.get()).isNotNull();
+	}
+
+	private WeakReference<Binding<String, String>> createForm(StringProperty model, boolean useWeakListeners) {
+
+		BindingContext context = new BindingContext();
+		context.setUseWeakListeners(useWeakListeners);
+
+		return new WeakReference<Binding<String, String>>(context.bind(model).to(new SimpleStringProperty()));
+	}
+
+	/**
+	 * Triggers garbage collections until the given reference is cleared, or
+	 * gives up after about one second.
+	 */
+	private void awaitCollection(WeakReference<?> reference) throws InterruptedException {
+
+		for (int i = 0; i < 20 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+	}
+}
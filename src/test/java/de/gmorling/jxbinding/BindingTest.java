@@ -15,16 +15,39 @@
  */
 package de.gmorling.jxbinding;
 
+import static de.gmorling.jxbinding.UpdatePolicy.LAZILY;
 import static de.gmorling.jxbinding.UpdatePolicy.ON_REQUEST;
+import static de.gmorling.jxbinding.UpdatePolicy.THROTTLED;
 import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 
+import javax.validation.Validation;
+import javax.validation.Validator;
+
 import org.junit.Test;
 
 import de.gmorling.jxbinding.Binding;
 import de.gmorling.jxbinding.BindingContext;
+import de.gmorling.jxbinding.converter.ConversionException;
+import de.gmorling.jxbinding.converter.Converter;
+import de.gmorling.jxbinding.converter.IntTextConverter;
+import de.gmorling.jxbinding.event.BindingEventAdapter;
 import de.gmorling.jxbinding.example.model.Person;
+import de.gmorling.jxbinding.validation.ValidationResultCache;
+import de.gmorling.jxbinding.validation.ValidatorProvider;
 
 public class BindingTest {
 
@@ -79,4 +102,610 @@ public class BindingTest {
 		//then
 		assertThat(nameBinding.targetConstraintViolationsProperty().getValue()).hasSize(1);
 	}
+
+	@Test
+	public void testValidatorIsRetrievedOncePerContext() {
+
+		//given
+		final int[] invocations = new int[1];
+		ValidatorProvider validatorProvider = new ValidatorProvider() {
+			@Override
+			public Validator getValidator() {
+				invocations[0]++;
+				return Validation.buildDefaultValidatorFactory().getValidator();
+			}
+		};
+
+		Person person = new Person();
+		StringProperty nameProperty = new SimpleStringProperty();
+		StringProperty ageProperty = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext(validatorProvider);
+		context.bind(person.nameProperty()).to(nameProperty);
+		context.bind(person.ageProperty()).to(ageProperty);
+
+		assertThat(invocations[0]).isEqualTo(0);
+
+		//when
+		nameProperty.setValue("Bob");
+		ageProperty.setValue("5");
+
+		//then
+		assertThat(invocations[0]).isEqualTo(1);
+	}
+
+	@Test
+	public void testContextViolationsAreAggregated() {
+
+		//given
+		Person person = new Person();
+		StringProperty nameProperty = new SimpleStringProperty();
+		StringProperty ageProperty = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		context.bind(person.nameProperty()).to(nameProperty);
+		context.bind(person.ageProperty()).to(ageProperty);
+
+		//when
+		nameProperty.setValue("Bob");
+		ageProperty.setValue("5");
+
+		//then
+		assertThat(context.constraintViolationsProperty().getValue()).hasSize(2);
+		assertThat(context.isValidProperty().getValue()).isFalse();
+
+		//when
+		nameProperty.setValue("Robert");
+		ageProperty.setValue("42");
+
+		//then
+		assertThat(context.constraintViolationsProperty().getValue()).isEmpty();
+		assertThat(context.isValidProperty().getValue()).isTrue();
+	}
+
+	@Test
+	public void testChangesArePropagatedUponBatchCommit() {
+
+		//given
+		StringProperty model = new SimpleStringProperty();
+		StringProperty target = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		context.bind(model).to(target);
+
+		//when
+		context.beginBatch();
+		model.set("foo");
+		model.set("bar");
+
+		//then
+		assertThat(target.getValue()).isNull();
+
+		//when
+		context.commit();
+
+		//then
+		assertThat(target.getValue()).isEqualTo("bar");
+	}
+
+	@Test
+	public void testOutdatedAsynchronousValidationResultIsDiscarded() {
+
+		//given
+		QueueingExecutor validationExecutor = new QueueingExecutor();
+		QueueingExecutor resultExecutor = new QueueingExecutor();
+
+		Person person = new Person();
+		StringProperty targetProperty = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		context.setValidationExecutor(validationExecutor);
+		context.setValidationResultExecutor(resultExecutor);
+		Binding<String, String> nameBinding = context.bind(person.nameProperty()).to(targetProperty);
+
+		//when
+		targetProperty.setValue("Bob");
+		targetProperty.setValue("Robert");
+
+		//then
+		assertThat(validationExecutor.tasks).hasSize(2);
+		assertThat(person.getName()).isNull();
+
+		//when
+		validationExecutor.runAll();
+		resultExecutor.runAll();
+
+		//then
+		assertThat(nameBinding.targetConstraintViolationsProperty().getValue()).isEmpty();
+		assertThat(person.getName()).isEqualTo("Robert");
+	}
+
+	@Test
+	public void testThrottledUpdatePropagatesFirstChangeOnly() {
+
+		//given
+		StringProperty model = new SimpleStringProperty();
+		StringProperty target = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		context.bind(model).withTargetUpdatePolicy(THROTTLED, 60000).to(target);
+
+		//when
+		model.set("foo");
+		model.set("bar");
+
+		//then
+		assertThat(target.getValue()).isEqualTo("foo");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTimeBasedUpdatePolicyRequiresDelay() {
+
+		//given
+		StringProperty model = new SimpleStringProperty();
+
+		//when
+		new BindingContext().bind(model).withTargetUpdatePolicy(THROTTLED);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testLazyUpdatePolicyIsRejectedForModelUpdates() {
+
+		//given
+		StringProperty model = new SimpleStringProperty();
+
+		//when
+		new BindingContext().bind(model).withModelUpdatePolicy(LAZILY);
+	}
+
+	@Test
+	public void testIntegerPropertyBinding() {
+
+		//given
+		Person person = new Person();
+		StringProperty targetProperty = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		Binding<Number, String> ageBinding = context.bind(person.ageProperty()).to(targetProperty);
+
+		//when
+		targetProperty.setValue("42");
+
+		//then
+		assertThat(person.getAge()).isEqualTo(42);
+
+		//when
+		person.setAge(7);
+
+		//then
+		assertThat(targetProperty.getValue()).isEqualTo("7");
+
+		//when
+		targetProperty.setValue("abc");
+
+		//then
+		assertThat(ageBinding.targetConstraintViolationsProperty().getValue()).hasSize(1);
+		assertThat(person.getAge()).isEqualTo(7);
+	}
+
+	@Test
+	public void testBindingsOfGroupCanBeDisposedWhileIterating() {
+
+		//given
+		Person person = new Person();
+		BindingContext context = new BindingContext();
+		context.bind(person.nameProperty()).inGroup("person").to(new SimpleStringProperty());
+		context.bind(person.ageProperty()).inGroup("person").to(new SimpleStringProperty());
+
+		//when
+		for (Binding<?, ?> oneBinding : context.getBindingsInGroup("person")) {
+			oneBinding.dispose();
+		}
+
+		//then
+		assertThat(context.getBindingsInGroup("person")).isEmpty();
+		assertThat(context.getBindings()).isEmpty();
+	}
+
+	@Test
+	public void testBindingsCanBeLookedUpAndUpdatedByGroup() {
+
+		//given
+		Person person = new Person();
+		StringProperty nameProperty = new SimpleStringProperty();
+		StringProperty ageProperty = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		Binding<String, String> nameBinding = context.bind(person.nameProperty())
+			.withModelUpdatePolicy(ON_REQUEST)
+			.inGroup("names")
+			.to(nameProperty);
+		Binding<Number, String> ageBinding = context.bind(person.ageProperty())
+			.withModelUpdatePolicy(ON_REQUEST)
+			.to(ageProperty);
+
+		//then
+		assertThat(context.getBindingsForModel(person.nameProperty())).containsOnly(nameBinding);
+		assertThat(context.getBindingForTarget(ageProperty)).isSameAs(ageBinding);
+		assertThat(context.getBindingsInGroup("names")).containsOnly(nameBinding);
+
+		//when
+		nameProperty.setValue("Robert");
+		ageProperty.setValue("42");
+		context.updateModels("names");
+
+		//then
+		assertThat(person.getName()).isEqualTo("Robert");
+		assertThat(person.getAge()).isEqualTo(0);
+	}
+
+	@Test
+	public void testOnlyDirtyBindingsAreUpdated() {
+
+		//given
+		Person person = new Person();
+		person.setName("Robert");
+		StringProperty nameProperty = new SimpleStringProperty();
+		StringProperty ageProperty = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		Binding<String, String> nameBinding = context.bind(person.nameProperty())
+			.withModelUpdatePolicy(ON_REQUEST)
+			.to(nameProperty);
+		Binding<Number, String> ageBinding = context.bind(person.ageProperty())
+			.withModelUpdatePolicy(ON_REQUEST)
+			.to(ageProperty);
+		context.updateTargets();
+
+		//then
+		assertThat(context.isDirtyProperty().getValue()).isFalse();
+
+		//when
+		nameProperty.setValue("Bob");
+		person.setAge(42);
+		ageProperty.setValue("43");
+		person.setAge(5);
+
+		//then
+		assertThat(nameBinding.isDirty()).isTrue();
+		assertThat(ageBinding.isDirty()).isFalse();
+		assertThat(context.isDirtyProperty().getValue()).isTrue();
+
+		//when
+		context.validateDirty();
+
+		//then
+		assertThat(nameBinding.targetConstraintViolationsProperty().getValue()).hasSize(1);
+		assertThat(ageBinding.targetConstraintViolationsProperty().getValue()).isEmpty();
+
+		//when
+		nameProperty.setValue("Robert");
+
+		//then
+		assertThat(context.isDirtyProperty().getValue()).isFalse();
+	}
+
+	@Test
+	public void testValidationResultsAreSharedViaCache() {
+
+		//given
+		ValidationResultCache cache = new ValidationResultCache(1);
+		Person person = new Person();
+		StringProperty nameProperty = new SimpleStringProperty();
+		StringProperty otherNameProperty = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		context.setValidationResultCache(cache);
+		Binding<String, String> binding = context.bind(person.nameProperty()).to(nameProperty);
+
+		BindingContext otherContext = new BindingContext();
+		otherContext.setValidationResultCache(cache);
+		Binding<String, String> otherBinding = otherContext.bind(new Person().nameProperty()).to(otherNameProperty);
+
+		//when
+		nameProperty.setValue("Bob");
+		otherNameProperty.setValue("Bob");
+
+		//then
+		assertThat(otherBinding.targetConstraintViolationsProperty().getValue()).hasSize(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+
+		//when
+		nameProperty.setValue("Robert");
+		otherNameProperty.setValue("Bob");
+
+		//then
+		assertThat(binding.targetConstraintViolationsProperty().getValue()).isEmpty();
+		assertThat(otherBinding.targetConstraintViolationsProperty().getValue()).hasSize(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void testValidationResultsAreNotSharedBetweenDifferentValidators() {
+
+		//given
+		ValidationResultCache cache = new ValidationResultCache(10);
+		StringProperty nameProperty = new SimpleStringProperty();
+		StringProperty otherNameProperty = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		context.setValidationResultCache(cache);
+		context.bind(new Person().nameProperty()).to(nameProperty);
+
+		final Validator otherValidator = Validation.buildDefaultValidatorFactory().getValidator();
+		BindingContext otherContext = new BindingContext(new ValidatorProvider() {
+
+			@Override
+			public Validator getValidator() {
+				return otherValidator;
+			}
+		});
+		otherContext.setValidationResultCache(cache);
+		otherContext.bind(new Person().nameProperty()).to(otherNameProperty);
+
+		//when
+		nameProperty.setValue("Bob");
+		otherNameProperty.setValue("Bob");
+
+		//then
+		assertThat(cache.getHitCount()).isEqualTo(0);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void testSubclassOfPrimitiveTextConverterIsNotBypassed() {
+
+		//given
+		Person person = new Person();
+		StringProperty ageProperty = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		context.bind(person.ageProperty())
+			.withConverter(new IntTextConverter() {
+
+				@Override
+				public Number toModel(String target) {
+					return super.toModel(target.replace(" years", ""));
+				}
+
+				@Override
+				public String toTarget(Number model) {
+					return super.toTarget(model) + " years";
+				}
+			})
+			.to(ageProperty);
+
+		//when
+		person.setAge(30);
+
+		//then
+		assertThat(ageProperty.get()).isEqualTo("30 years");
+
+		//when
+		ageProperty.set("40 years");
+
+		//then
+		assertThat(person.getAge()).isEqualTo(40);
+	}
+
+	@Test
+	public void testRedundantUpdatesAreSkipped() {
+
+		//given
+		Person person = new Person();
+		StringProperty nameProperty = new SimpleStringProperty();
+		CountingConverter converter = new CountingConverter();
+
+		BindingContext context = new BindingContext();
+		Binding<String, String> binding = context.bind(person.nameProperty())
+			.withConverter(converter)
+			.withModelUpdatePolicy(ON_REQUEST)
+			.to(nameProperty);
+
+		//when
+		nameProperty.setValue("Robert");
+		context.updateModels();
+		context.updateModels();
+
+		//then
+		assertThat(person.getName()).isEqualTo("Robert");
+		assertThat(converter.toModelCount).isEqualTo(1);
+
+		//when
+		int toTargetCount = converter.toTargetCount;
+		context.updateTargets();
+		context.updateTargets();
+
+		//then
+		assertThat(converter.toTargetCount).isEqualTo(toTargetCount + 1);
+
+		//when
+		binding.setSkipRedundantUpdates(false);
+		context.updateModels();
+
+		//then
+		assertThat(converter.toModelCount).isEqualTo(2);
+	}
+
+	@Test
+	public void testBindingEventsAreFired() {
+
+		//given
+		Person person = new Person();
+		StringProperty ageProperty = new SimpleStringProperty();
+		final List<String> events = new ArrayList<String>();
+
+		BindingContext context = new BindingContext();
+		context.addBindingEventListener(new BindingEventAdapter() {
+
+			@Override
+			public void conversionStarted(Binding<?, ?> binding, ConversionDirection direction) {
+				events.add("conversionStarted " + direction);
+			}
+
+			@Override
+			public void conversionFinished(Binding<?, ?> binding, ConversionDirection direction) {
+				events.add("conversionFinished " + direction);
+			}
+
+			@Override
+			public void validationStarted(Binding<?, ?> binding) {
+				events.add("validationStarted");
+			}
+
+			@Override
+			public void conversionFailed(Binding<?, ?> binding, ConversionDirection direction, Object value,
+					ConversionException exception) {
+				events.add("conversionFailed " + direction + " " + value);
+			}
+
+			@Override
+			public void validationRan(Binding<?, ?> binding, Object value, List<BindingViolation> violations) {
+				events.add("validationRan " + value + " " + violations.size());
+			}
+
+			@Override
+			public void modelWritten(Binding<?, ?> binding, Object value) {
+				events.add("modelWritten " + value);
+			}
+
+			@Override
+			public void targetWritten(Binding<?, ?> binding, Object value) {
+				events.add("targetWritten " + value);
+			}
+		});
+		context.bind(person.ageProperty()).to(ageProperty);
+
+		//when
+		ageProperty.setValue("x");
+		ageProperty.setValue("42");
+		person.setAge(43);
+
+		//then
+		assertThat(events).containsExactly(
+			"conversionStarted TO_MODEL",
+			"conversionFailed TO_MODEL x",
+			"conversionFinished TO_MODEL",
+			"validationStarted",
+			"validationRan null 1",
+			"conversionStarted TO_MODEL",
+			"conversionFinished TO_MODEL",
+			"validationStarted",
+			"validationRan 42 0",
+			"modelWritten 42",
+			"conversionStarted TO_TARGET",
+			"conversionFinished TO_TARGET",
+			"targetWritten 43");
+	}
+
+	@Test
+	public void testLazyTargetIsRefreshedWhenTriggered() {
+
+		//given
+		Person person = new Person();
+		StringProperty nameProperty = new SimpleStringProperty();
+		BooleanProperty visible = new SimpleBooleanProperty(false);
+		CountingConverter converter = new CountingConverter();
+
+		BindingContext context = new BindingContext();
+		Binding<String, String> binding = context.bind(person.nameProperty())
+			.withConverter(converter)
+			.withTargetUpdatePolicy(LAZILY)
+			.to(nameProperty);
+		context.refreshTargetPropertyOf(binding).upon(visible).becoming(true);
+
+		//when
+		person.setName("Robert");
+		person.setName("Roberta");
+
+		//then
+		assertThat(binding.isTargetStale()).isTrue();
+		assertThat(nameProperty.getValue()).isNull();
+		assertThat(converter.toTargetCount).isEqualTo(0);
+
+		//when
+		visible.set(true);
+
+		//then
+		assertThat(binding.isTargetStale()).isFalse();
+		assertThat(nameProperty.getValue()).isEqualTo("Roberta");
+		assertThat(converter.toTargetCount).isEqualTo(1);
+
+		//when
+		person.setName("Bob");
+
+		//then
+		assertThat(binding.isTargetStale()).isFalse();
+		assertThat(nameProperty.getValue()).isEqualTo("Bob");
+	}
+
+	@Test
+	public void testBindBean() {
+
+		//given
+		Person person = new Person();
+		StringProperty nameProperty = new SimpleStringProperty();
+		StringProperty ageProperty = new SimpleStringProperty();
+
+		Map<String, Property<?>> targetProperties = new HashMap<String, Property<?>>();
+		targetProperties.put("name", nameProperty);
+		targetProperties.put("age", ageProperty);
+
+		BindingContext context = new BindingContext();
+
+		//when
+		Map<String, Binding<?, ?>> bindings = context.bindBean(person, targetProperties);
+		nameProperty.setValue("Robert");
+		person.setAge(42);
+
+		//then
+		assertThat(bindings).hasSize(2);
+		assertThat(bindings.get("name").modelProperty()).isSameAs(person.nameProperty());
+		assertThat(person.getName()).isEqualTo("Robert");
+		assertThat(ageProperty.getValue()).isEqualTo("42");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBindBeanWithUnknownProperty() {
+
+		Map<String, Property<?>> targetProperties = new HashMap<String, Property<?>>();
+		targetProperties.put("nickName", new SimpleStringProperty());
+
+		new BindingContext().bindBean(new Person(), targetProperties);
+	}
+
+	private static class CountingConverter implements Converter<String, String> {
+
+		private int toModelCount;
+		private int toTargetCount;
+
+		@Override
+		public String toModel(String target) {
+			toModelCount++;
+			return target;
+		}
+
+		@Override
+		public String toTarget(String model) {
+			toTargetCount++;
+			return model;
+		}
+	}
+
+	private static class QueueingExecutor implements Executor {
+
+		private final Queue<Runnable> tasks = new LinkedList<Runnable>();
+
+		@Override
+		public void execute(Runnable command) {
+			tasks.add(command);
+		}
+
+		private void runAll() {
+			while (!tasks.isEmpty()) {
+				tasks.poll().run();
+			}
+		}
+	}
 }
@@ -0,0 +1,180 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import static org.fest.assertions.Assertions.assertThat;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.junit.Test;
+
+public class ChangeJournalTest {
+
+	@Test
+	public void testUndoAndRedoRestoreModelAndTarget() {
+
+		//given
+		StringProperty model = new SimpleStringProperty("a");
+		StringProperty target = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		ChangeJournal journal = new ChangeJournal(10, 0);
+		context.setChangeJournal(journal);
+		context.bind(model).withModelUpdatePolicy(UpdatePolicy.ON_REQUEST).to(target);
+		context.updateTargets();
+
+		target.set("b");
+		context.updateModels();
+		target.set("c");
+		context.updateModels();
+
+		//when
+		journal.undo();
+
+		//then
+		assertThat(model.get()).isEqualTo("b");
+		assertThat(target.get()).isEqualTo("b");
+		assertThat(journal.canUndo()).isTrue();
+		assertThat(journal.canRedo()).isTrue();
+
+		//when
+		journal.undo();
+		journal.redo();
+
+		//then
+		assertThat(model.get()).isEqualTo("b");
+		assertThat(target.get()).isEqualTo("b");
+		assertThat(journal.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void testConsecutiveWritesToSamePropertyAreCoalesced() {
+
+		//given
+		StringProperty name = new SimpleStringProperty();
+		StringProperty city = new SimpleStringProperty();
+		StringProperty nameTarget = new SimpleStringProperty();
+		StringProperty cityTarget = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		ChangeJournal journal = new ChangeJournal(10, 60000);
+		context.setChangeJournal(journal);
+		context.bind(name).to(nameTarget);
+		context.bind(city).to(cityTarget);
+
+		//when
+		nameTarget.set("B");
+		nameTarget.set("Bo");
+		nameTarget.set("Bob");
+		cityTarget.set("Rome");
+		nameTarget.set("Bobby");
+
+		//then
+		assertThat(journal.size()).isEqualTo(3);
+
+		journal.undo();
+		assertThat(name.get()).isEqualTo("Bob");
+
+		journal.undo();
+		assertThat(city.get()).isNull();
+
+		journal.undo();
+		assertThat(name.get()).isNull();
+		assertThat(nameTarget.get()).isNull();
+		assertThat(journal.canUndo()).isFalse();
+	}
+
+	@Test
+	public void testNewWriteDiscardsRedoableEntries() {
+
+		//given
+		StringProperty model = new SimpleStringProperty();
+		StringProperty target = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		ChangeJournal journal = new ChangeJournal(10, 60000);
+		context.setChangeJournal(journal);
+		context.bind(model).to(target);
+
+		target.set("foo");
+		journal.undo();
+
+		//when
+		target.set("bar");
+
+		//then
+		assertThat(journal.canRedo()).isFalse();
+		assertThat(journal.size()).isEqualTo(1);
+
+		journal.undo();
+		assertThat(model.get()).isNull();
+	}
+
+	@Test
+	public void testOldestEntriesAreDiscardedWhenFull() {
+
+		//given
+		StringProperty model = new SimpleStringProperty();
+		StringProperty target = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		ChangeJournal journal = new ChangeJournal(2, 0);
+		context.setChangeJournal(journal);
+		context.bind(model).to(target);
+
+		//when
+		target.set("a");
+		target.set("b");
+		target.set("c");
+
+		//then
+		assertThat(journal.size()).isEqualTo(2);
+		assertThat(journal.undo()).isTrue();
+		assertThat(journal.undo()).isTrue();
+		assertThat(journal.undo()).isFalse();
+		assertThat(model.get()).isEqualTo("a");
+	}
+
+	@Test
+	public void testEntriesOfDisposedBindingAreDiscarded() {
+
+		//given
+		StringProperty model1 = new SimpleStringProperty();
+		StringProperty model2 = new SimpleStringProperty();
+		StringProperty target1 = new SimpleStringProperty();
+		StringProperty target2 = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		ChangeJournal journal = new ChangeJournal(10, 0);
+		context.setChangeJournal(journal);
+		Binding<String, String> binding1 = context.bind(model1).to(target1);
+		context.bind(model2).to(target2);
+
+		target1.set("a");
+		target2.set("b");
+		target1.set("c");
+
+		//when
+		binding1.dispose();
+
+		//then
+		assertThat(journal.size()).isEqualTo(1);
+
+		journal.undo();
+		assertThat(model2.get()).isNull();
+		assertThat(model1.get()).isEqualTo("c");
+	}
+}
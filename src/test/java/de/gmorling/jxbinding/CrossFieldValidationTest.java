@@ -0,0 +1,357 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Set;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Payload;
+import javax.validation.ReportAsSingleViolation;
+import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.gmorling.jxbinding.validation.CrossFieldConstraints;
+import de.gmorling.jxbinding.validation.DefaultValidatorProvider;
+import de.gmorling.jxbinding.validation.ConstraintMetadataCache;
+import de.gmorling.jxbinding.validation.ValidatorProvider;
+
+public class CrossFieldValidationTest {
+
+	private Range range;
+	private StringProperty lowerTarget;
+	private StringProperty upperTarget;
+	private StringProperty noteTarget;
+	private BindingContext context;
+	private Binding<Number, String> lowerBinding;
+	private Binding<Number, String> upperBinding;
+	private Binding<String, String> noteBinding;
+
+	@Before
+	public void setUpBindings() {
+
+		range = new Range();
+		lowerTarget = new SimpleStringProperty();
+		upperTarget = new SimpleStringProperty();
+		noteTarget = new SimpleStringProperty();
+
+		context = new BindingContext();
+		context.setCrossFieldValidationEnabled(true);
+		lowerBinding = context.bind(range.lowerProperty()).to(lowerTarget);
+		upperBinding = context.bind(range.upperProperty()).to(upperTarget);
+		noteBinding = context.bind(range.noteProperty()).to(noteTarget);
+
+		OrderedValidator.invocationCount = 0;
+	}
+
+	@Test
+	public void testDependenciesAreDerivedFromConstraintAttributes() {
+
+		//when
+		CrossFieldConstraints constraints = new ConstraintMetadataCache(DefaultValidatorProvider.INSTANCE.getValidator(), DefaultValidatorProvider.INSTANCE.getValidatorFactory()).getCrossFieldConstraints(Range.class);
+
+		//then
+		assertThat(constraints.getConstraints()).hasSize(1);
+		assertThat(constraints.getConstraintsReading("lower")).hasSize(1);
+		assertThat(constraints.getConstraintsReading("upper")).hasSize(1);
+		assertThat(constraints.getConstraintsReading("note")).isEmpty();
+	}
+
+	@Test
+	public void testViolationIsRoutedToBindingsOfReadProperties() {
+
+		//when
+		upperTarget.set("5");
+		lowerTarget.set("10");
+
+		//then
+		assertThat(range.getLower()).isEqualTo(10);
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get().get(0).getMessage()).isEqualTo("lower must not exceed upper");
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get().get(0).getConstraintType()).isEqualTo("Ordered");
+		assertThat(upperBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+		assertThat(noteBinding.targetConstraintViolationsProperty().get()).isEmpty();
+		assertThat(context.isValidProperty().get()).isFalse();
+
+		//when
+		upperTarget.set("20");
+
+		//then
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get()).isEmpty();
+		assertThat(upperBinding.targetConstraintViolationsProperty().get()).isEmpty();
+		assertThat(context.isValidProperty().get()).isTrue();
+	}
+
+	@Test
+	public void testChangeOfUnrelatedPropertyDoesNotTriggerConstraint() {
+
+		//when
+		noteTarget.set("foo");
+
+		//then
+		assertThat(OrderedValidator.invocationCount).isEqualTo(0);
+	}
+
+	@Test
+	public void testConstraintIsEvaluatedOncePerBatch() {
+
+		//when
+		context.beginBatch();
+		range.setLower(10);
+		range.setUpper(5);
+		range.setLower(11);
+		context.commit();
+
+		//then
+		assertThat(OrderedValidator.invocationCount).isEqualTo(1);
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+	}
+
+	@Test
+	public void testCustomViolationIsRoutedToGivenProperty() {
+
+		//when
+		range.setLower(-1);
+
+		//then
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get().get(0).getMessage()).isEqualTo("must not be negative");
+		assertThat(upperBinding.targetConstraintViolationsProperty().get()).isEmpty();
+	}
+
+	@Test
+	public void testConstraintComposedOfOtherConstraintsIsEvaluated() {
+
+		//given
+		ComposedRange composedRange = new ComposedRange();
+		lowerBinding = context.bind(composedRange.lowerProperty()).to(new SimpleStringProperty());
+		upperBinding = context.bind(composedRange.upperProperty()).to(new SimpleStringProperty());
+		noteBinding = context.bind(composedRange.noteProperty()).to(new SimpleStringProperty());
+
+		//when
+		CrossFieldConstraints constraints = new ConstraintMetadataCache(DefaultValidatorProvider.INSTANCE.getValidator(), DefaultValidatorProvider.INSTANCE.getValidatorFactory()).getCrossFieldConstraints(ComposedRange.class);
+
+		//then
+		assertThat(constraints.getConstraints()).hasSize(1);
+		assertThat(constraints.getConstraintsReading("lower")).hasSize(1);
+		assertThat(constraints.getConstraintsReading("note")).isEmpty();
+
+		//when
+		composedRange.setUpper(5);
+		composedRange.setLower(10);
+
+		//then
+		assertThat(OrderedValidator.invocationCount).isEqualTo(2);
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get().get(0).getMessage()).isEqualTo("invalid range");
+		assertThat(upperBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+		assertThat(noteBinding.targetConstraintViolationsProperty().get()).isEmpty();
+	}
+
+	@Test
+	public void testBeanIsValidatedIfValidatorFactoryIsUnknown() {
+
+		//given
+		context = new BindingContext(new ValidatorProvider() {
+
+			@Override
+			public Validator getValidator() {
+				return DefaultValidatorProvider.INSTANCE.getValidator();
+			}
+		});
+		context.setCrossFieldValidationEnabled(true);
+		lowerBinding = context.bind(range.lowerProperty()).to(lowerTarget);
+		upperBinding = context.bind(range.upperProperty()).to(upperTarget);
+
+		//when
+		upperTarget.set("5");
+		lowerTarget.set("10");
+
+		//then
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get().get(0).getMessage()).isEqualTo("lower must not exceed upper");
+		assertThat(upperBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+
+		//when
+		range.setLower(-1);
+
+		//then
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get().get(0).getMessage()).isEqualTo("must not be negative");
+		assertThat(upperBinding.targetConstraintViolationsProperty().get()).isEmpty();
+	}
+
+	@Test
+	public void testBeanIsValidatedOnceForAllConstraintsNotEvaluatedDirectly() {
+
+		//given
+		final CountingValidator validator = new CountingValidator(DefaultValidatorProvider.INSTANCE.getValidator());
+		context = new BindingContext(new ValidatorProvider() {
+
+			@Override
+			public Validator getValidator() {
+				return validator;
+			}
+		});
+		context.setCrossFieldValidationEnabled(true);
+		DoublyConstrainedRange doublyConstrainedRange = new DoublyConstrainedRange();
+		lowerBinding = context.bind(doublyConstrainedRange.lowerProperty()).to(new SimpleStringProperty());
+
+		//when
+		doublyConstrainedRange.setUpper(5);
+		doublyConstrainedRange.setLower(10);
+
+		//then
+		assertThat(validator.validateCount).isEqualTo(1);
+		assertThat(lowerBinding.targetConstraintViolationsProperty().get()).hasSize(2);
+	}
+
+	public static class AbstractRange {
+
+		private final IntegerProperty lower = new SimpleIntegerProperty(this, "lower");
+		private final IntegerProperty upper = new SimpleIntegerProperty(this, "upper");
+		private final StringProperty note = new SimpleStringProperty(this, "note");
+
+		public int getLower() { return lower.get(); }
+		public void setLower(int lower) { this.lower.set(lower); }
+		public IntegerProperty lowerProperty() { return lower; }
+
+		public int getUpper() { return upper.get(); }
+		public void setUpper(int upper) { this.upper.set(upper); }
+		public IntegerProperty upperProperty() { return upper; }
+
+		public String getNote() { return note.get(); }
+		public StringProperty noteProperty() { return note; }
+	}
+
+	@Ordered(lower = "lower", upper = "upper")
+	public static class Range extends AbstractRange {
+	}
+
+	@ValidRange
+	public static class ComposedRange extends AbstractRange {
+	}
+
+	@Ordered(lower = "lower", upper = "upper")
+	@ValidRange
+	public static class DoublyConstrainedRange extends AbstractRange {
+	}
+
+	private static class CountingValidator implements Validator {
+
+		private final Validator delegate;
+		private int validateCount;
+
+		private CountingValidator(Validator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+			validateCount++;
+			return delegate.validate(object, groups);
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+			return delegate.validateProperty(object, propertyName, groups);
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+			return delegate.validateValue(beanType, propertyName, value, groups);
+		}
+
+		@Override
+		public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+			return delegate.getConstraintsForClass(clazz);
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			return delegate.unwrap(type);
+		}
+	}
+
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	@Constraint(validatedBy = OrderedValidator.class)
+	public @interface Ordered {
+
+		String message() default "{lower} must not exceed {upper}";
+
+		Class<?>[] groups() default {};
+
+		Class<? extends Payload>[] payload() default {};
+
+		String lower();
+
+		String upper();
+	}
+
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	@Ordered(lower = "lower", upper = "upper")
+	@Constraint(validatedBy = {})
+	@ReportAsSingleViolation
+	public @interface ValidRange {
+
+		String message() default "invalid range";
+
+		Class<?>[] groups() default {};
+
+		Class<? extends Payload>[] payload() default {};
+	}
+
+	public static class OrderedValidator implements ConstraintValidator<Ordered, AbstractRange> {
+
+		private static int invocationCount;
+
+		@Override
+		public void initialize(Ordered constraintAnnotation) {
+		}
+
+		@Override
+		public boolean isValid(AbstractRange value, ConstraintValidatorContext context) {
+
+			invocationCount++;
+
+			if (value.getLower() < 0) {
+				context.disableDefaultConstraintViolation();
+				context.buildConstraintViolationWithTemplate("must not be negative").addNode("lower").addConstraintViolation();
+				return false;
+			}
+
+			return value.getLower() <= value.getUpper();
+		}
+	}
+}
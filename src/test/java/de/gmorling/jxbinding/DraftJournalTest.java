@@ -0,0 +1,205 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DraftJournalTest {
+
+	private File file;
+
+	@Before
+	public void createFile() throws Exception {
+		file = File.createTempFile("draft", ".journal");
+		file.delete();
+	}
+
+	@After
+	public void deleteFile() {
+		file.delete();
+	}
+
+	@Test
+	public void testDraftIsRestoredAfterRestart() throws Exception {
+
+		//given
+		DraftJournal journal = new DraftJournal(file);
+		StringProperty name = new SimpleStringProperty();
+		StringProperty nameTarget = new SimpleStringProperty();
+		StringProperty city = new SimpleStringProperty();
+		StringProperty cityTarget = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		context.setDraftJournal(journal);
+		context.bind(name).withModelUpdatePolicy(UpdatePolicy.ON_REQUEST).withId("name").to(nameTarget);
+		context.bind(city).withModelUpdatePolicy(UpdatePolicy.ON_REQUEST).to(cityTarget);
+
+		nameTarget.set("B");
+		nameTarget.set("Bob");
+		cityTarget.set("Rome");
+		journal.flush();
+		journal.close();
+
+		//when
+		DraftJournal restoredJournal = new DraftJournal(file);
+		StringProperty restoredName = new SimpleStringProperty();
+		StringProperty restoredNameTarget = new SimpleStringProperty();
+
+		BindingContext restoredContext = new BindingContext();
+		restoredContext.bind(restoredName).withId("name").to(restoredNameTarget);
+		int restored = restoredContext.restoreDraft(restoredJournal);
+		restoredJournal.close();
+
+		//then
+		assertThat(restored).isEqualTo(1);
+		assertThat(restoredNameTarget.get()).isEqualTo("Bob");
+		assertThat(restoredName.get()).isEqualTo("Bob");
+	}
+
+	@Test
+	public void testChangesAreWrittenInBackground() throws Exception {
+
+		//given
+		DraftJournal journal = new DraftJournal(file, 10);
+		BindingContext context = new BindingContext();
+		context.setDraftJournal(journal);
+		StringProperty target = new SimpleStringProperty();
+		context.bind(new SimpleStringProperty()).withId("name").to(target);
+
+		//when
+		target.set("Bob");
+		Thread.sleep(500);
+
+		//then
+		DraftJournal reopened = new DraftJournal(file);
+		assertThat(reopened.getDraft().get("name")).isEqualTo("Bob");
+		reopened.close();
+		journal.close();
+	}
+
+	@Test
+	public void testFileIsCompactedAndGrownWhenFull() throws Exception {
+
+		//given
+		DraftJournal journal = new DraftJournal(file, 0, 64);
+
+		//when
+		for (int i = 0; i < 1000; i++) {
+			journal.targetChanged("field" + (i % 10), "value" + i);
+			journal.flush();
+		}
+		journal.close();
+
+		//then
+		assertThat(file.length()).isLessThan(4096);
+
+		DraftJournal reopened = new DraftJournal(file);
+		assertThat(reopened.getDraft()).hasSize(10);
+		assertThat(reopened.getDraft().get("field9")).isEqualTo("value999");
+		assertThat(reopened.getDraft().get("field0")).isEqualTo("value990");
+		reopened.close();
+	}
+
+	@Test
+	public void testPreviousRecordsAreKeptUntilCompactionIsComplete() throws Exception {
+
+		//given
+		DraftJournal journal = new DraftJournal(file, 0, 128);
+		journal.targetChanged("a", "1");
+		journal.targetChanged("b", "2");
+		journal.targetChanged("c", "3");
+		journal.close();
+
+		byte[] header = new byte[16];
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		raf.readFully(header);
+		raf.close();
+
+		//when
+		DraftJournal reopened = new DraftJournal(file, 0, 128);
+		reopened.targetChanged("d", "4");
+		reopened.close();
+
+		// the application crashed before the header referred to the compacted records
+		raf = new RandomAccessFile(file, "rw");
+		raf.write(header);
+		raf.close();
+
+		//then
+		DraftJournal reopenedAgain = new DraftJournal(file);
+		assertThat(reopenedAgain.getDraft()).hasSize(3);
+		assertThat(reopenedAgain.getDraft().get("a")).isEqualTo("1");
+		assertThat(reopenedAgain.getDraft().get("c")).isEqualTo("3");
+		reopenedAgain.close();
+	}
+
+	@Test
+	public void testIncompleteRecordIsIgnored() throws Exception {
+
+		//given
+		DraftJournal journal = new DraftJournal(file, 0, 1024);
+		journal.targetChanged("name", "Bob");
+		journal.flush();
+		journal.close();
+
+		// a record whose length was written, but not its contents
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		raf.seek(16 + 4 + 4 + 4 + 4 + 3);
+		raf.writeInt(100);
+		raf.close();
+
+		//when
+		DraftJournal reopened = new DraftJournal(file);
+		reopened.targetChanged("city", "Rome");
+		reopened.flush();
+		reopened.close();
+
+		//then
+		DraftJournal reopenedAgain = new DraftJournal(file);
+		assertThat(reopenedAgain.getDraft()).hasSize(2);
+		assertThat(reopenedAgain.getDraft().get("name")).isEqualTo("Bob");
+		assertThat(reopenedAgain.getDraft().get("city")).isEqualTo("Rome");
+		reopenedAgain.close();
+	}
+
+	@Test
+	public void testClearedDraftIsEmpty() throws Exception {
+
+		//given
+		DraftJournal journal = new DraftJournal(file);
+		journal.targetChanged("name", "Bob");
+		journal.flush();
+
+		//when
+		journal.clear();
+		journal.close();
+
+		//then
+		DraftJournal reopened = new DraftJournal(file);
+		assertThat(reopened.hasDraft()).isFalse();
+		reopened.close();
+	}
+}
@@ -0,0 +1,292 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import javax.validation.Configuration;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.MessageInterpolator;
+import javax.validation.Payload;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.gmorling.jxbinding.validation.ConstraintMetadataCache;
+import de.gmorling.jxbinding.validation.DefaultValidatorProvider;
+import de.gmorling.jxbinding.validation.ValidationCost;
+import de.gmorling.jxbinding.validation.ValidationPipeline;
+import de.gmorling.jxbinding.validation.ValidatorFactoryProvider;
+import de.gmorling.jxbinding.validation.ValidatorProvider;
+
+public class FailFastValidationTest {
+
+	private Account account;
+	private StringProperty nameTarget;
+	private BindingContext context;
+
+	@Before
+	public void setUpContext() {
+
+		account = new Account();
+		nameTarget = new SimpleStringProperty();
+		context = new BindingContext();
+
+		AvailableValidator.invocationCount = 0;
+	}
+
+	@Test
+	public void testConstraintsAreOrderedByDeclaredCost() {
+
+		//when
+		ValidationPipeline pipeline = new ConstraintMetadataCache(DefaultValidatorProvider.INSTANCE.getValidator(), DefaultValidatorProvider.INSTANCE.getValidatorFactory()).getValidationPipeline(Account.class, "name");
+
+		//then
+		assertThat(pipeline.isApplicable()).isTrue();
+
+		List<Class<?>> constraintTypes = new ArrayList<Class<?>>();
+		for (Annotation oneConstraint : pipeline.getConstraints()) {
+			constraintTypes.add(oneConstraint.annotationType());
+		}
+
+		assertThat(constraintTypes).hasSize(3);
+		assertThat(constraintTypes.get(2)).isEqualTo(Available.class);
+	}
+
+	@Test
+	public void testExpensiveConstraintIsSkippedIfCheapConstraintFails() {
+
+		//given
+		context.setFailFastValidation(true);
+		Binding<String, String> nameBinding = context.bind(account.nameProperty()).to(nameTarget);
+
+		//when
+		nameTarget.set("ab");
+
+		//then
+		assertThat(AvailableValidator.invocationCount).isEqualTo(0);
+		assertThat(nameBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+		assertThat(nameBinding.targetConstraintViolationsProperty().get().get(0).getConstraintType()).isEqualTo("Size");
+		assertThat(nameBinding.targetConstraintViolationsProperty().get().get(0).getMessage()).isEqualTo("size must be between 3 and 2147483647");
+
+		//when
+		nameTarget.set("abc");
+
+		//then
+		assertThat(AvailableValidator.invocationCount).isEqualTo(1);
+		assertThat(nameBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+		assertThat(nameBinding.targetConstraintViolationsProperty().get().get(0).getMessage()).isEqualTo("name is taken");
+		assertThat(account.getName()).isNull();
+	}
+
+	@Test
+	public void testUpdateModelsEvaluatesAllConstraints() {
+
+		//given
+		context.setFailFastValidation(true);
+		Binding<String, String> nameBinding = context.bind(account.nameProperty()).withModelUpdatePolicy(UpdatePolicy.ON_REQUEST).to(nameTarget);
+		nameTarget.set("ab");
+
+		//when
+		nameBinding.validateTargetProperty();
+
+		//then
+		assertThat(AvailableValidator.invocationCount).isEqualTo(0);
+		assertThat(nameBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+
+		//when
+		context.updateModels();
+
+		//then
+		assertThat(AvailableValidator.invocationCount).isEqualTo(1);
+		assertThat(nameBinding.targetConstraintViolationsProperty().get()).hasSize(2);
+		assertThat(account.getName()).isNull();
+	}
+
+	@Test
+	public void testAllConstraintsAreEvaluatedByDefault() {
+
+		//given
+		Binding<String, String> nameBinding = context.bind(account.nameProperty()).to(nameTarget);
+
+		//when
+		nameTarget.set("ab");
+
+		//then
+		assertThat(AvailableValidator.invocationCount).isEqualTo(1);
+		assertThat(nameBinding.targetConstraintViolationsProperty().get()).hasSize(2);
+	}
+
+	@Test
+	public void testValidValueIsWrittenInFailFastMode() {
+
+		//given
+		context.setFailFastValidation(true);
+		Binding<String, String> nameBinding = context.bind(account.nameProperty()).to(nameTarget);
+
+		//when
+		nameTarget.set("bob");
+
+		//then
+		assertThat(AvailableValidator.invocationCount).isEqualTo(1);
+		assertThat(nameBinding.targetConstraintViolationsProperty().get()).isEmpty();
+		assertThat(account.getName()).isEqualTo("bob");
+	}
+
+	@Test
+	public void testFactoryOfValidatorProviderIsUsed() {
+
+		//given
+		Configuration<?> configuration = Validation.byDefaultProvider().configure();
+		final MessageInterpolator defaultInterpolator = configuration.getDefaultMessageInterpolator();
+		final ConstraintValidatorFactory defaultConstraintValidatorFactory = configuration.getDefaultConstraintValidatorFactory();
+		final List<Class<?>> createdValidators = new ArrayList<Class<?>>();
+
+		final ValidatorFactory validatorFactory = configuration
+			.messageInterpolator(new MessageInterpolator() {
+
+				@Override
+				public String interpolate(String messageTemplate, Context context) {
+					return "custom " + defaultInterpolator.interpolate(messageTemplate, context);
+				}
+
+				@Override
+				public String interpolate(String messageTemplate, Context context, Locale locale) {
+					return "custom " + defaultInterpolator.interpolate(messageTemplate, context, locale);
+				}
+			})
+			.constraintValidatorFactory(new ConstraintValidatorFactory() {
+
+				@Override
+				public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+					createdValidators.add(key);
+					return defaultConstraintValidatorFactory.getInstance(key);
+				}
+			})
+			.buildValidatorFactory();
+
+		context = new BindingContext(new ValidatorFactoryProvider() {
+
+			@Override
+			public Validator getValidator() {
+				return validatorFactory.getValidator();
+			}
+
+			@Override
+			public ValidatorFactory getValidatorFactory() {
+				return validatorFactory;
+			}
+		});
+		context.setFailFastValidation(true);
+		Binding<String, String> nameBinding = context.bind(account.nameProperty()).to(nameTarget);
+
+		//when
+		nameTarget.set("ab");
+
+		//then
+		assertThat(createdValidators).isNotEmpty();
+		assertThat(AvailableValidator.invocationCount).isEqualTo(0);
+		assertThat(nameBinding.targetConstraintViolationsProperty().get()).hasSize(1);
+		assertThat(nameBinding.targetConstraintViolationsProperty().get().get(0).getMessage()).isEqualTo("custom size must be between 3 and 2147483647");
+	}
+
+	@Test
+	public void testValidatorIsUsedIfValidatorFactoryIsUnknown() {
+
+		//given
+		context = new BindingContext(new ValidatorProvider() {
+
+			@Override
+			public Validator getValidator() {
+				return DefaultValidatorProvider.INSTANCE.getValidator();
+			}
+		});
+		context.setFailFastValidation(true);
+		Binding<String, String> nameBinding = context.bind(account.nameProperty()).to(nameTarget);
+
+		//when
+		nameTarget.set("ab");
+
+		//then
+		assertThat(AvailableValidator.invocationCount).isEqualTo(1);
+		assertThat(nameBinding.targetConstraintViolationsProperty().get()).hasSize(2);
+	}
+
+	public static class Account {
+
+		private final StringProperty name = new SimpleStringProperty(this, "name");
+
+		@Available
+		@NotNull
+		@Size(min = 3)
+		public String getName() { return name.get(); }
+		public StringProperty nameProperty() { return name; }
+	}
+
+	@Target(ElementType.METHOD)
+	@Retention(RetentionPolicy.RUNTIME)
+	@Constraint(validatedBy = AvailableValidator.class)
+	public @interface Available {
+
+		String message() default "name is taken";
+
+		Class<?>[] groups() default {};
+
+		Class<? extends Payload>[] payload() default {};
+	}
+
+	/**
+	 * Simulates an expensive check, e.g. a look-up in a remote system; names
+	 * starting with "a" are taken.
+	 */
+	@ValidationCost(100)
+	public static class AvailableValidator implements ConstraintValidator<Available, String> {
+
+		private static int invocationCount;
+
+		@Override
+		public void initialize(Available constraintAnnotation) {
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+
+			invocationCount++;
+
+			return value == null || !value.startsWith("a");
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+import de.gmorling.jxbinding.converter.Converter;
+import de.gmorling.jxbinding.example.model.Gender;
+import de.gmorling.jxbinding.example.model.Person;
+
+public class ListContentBindingTest {
+
+	private final Converter<Person, String> nameConverter = new Converter<Person, String>() {
+
+		@Override
+		public Person toModel(String target) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String toTarget(Person model) {
+			return model.getName();
+		}
+	};
+
+	@Test
+	public void testChangesArePropagatedIncrementally() {
+
+		//given
+		ObservableList<Person> persons = FXCollections.observableArrayList(person("Robert", 30), person("Alice", 40));
+		ObservableList<String> names = FXCollections.observableArrayList();
+
+		BindingContext context = new BindingContext();
+		context.bindContent(persons).withElementConverter(nameConverter).to(names);
+
+		//then
+		assertThat(names).containsExactly("Robert", "Alice");
+
+		//when
+		persons.add(1, person("Charlie", 50));
+		persons.remove(0);
+		persons.set(1, person("Bobby", 20));
+
+		//then
+		assertThat(names).containsExactly("Charlie", "Bobby");
+
+		//when
+		FXCollections.sort(persons, new Comparator<Person>() {
+
+			@Override
+			public int compare(Person o1, Person o2) {
+				return o1.getName().compareTo(o2.getName());
+			}
+		});
+
+		//then
+		assertThat(names).containsExactly("Bobby", "Charlie");
+	}
+
+	@Test
+	public void testReplacedElementIsSetInPlace() {
+
+		//given
+		ObservableList<Person> persons = FXCollections.observableArrayList(person("Robert", 30), person("Alice", 40), person("Charlie", 50));
+		ObservableList<String> names = FXCollections.observableArrayList();
+
+		BindingContext context = new BindingContext();
+		context.bindContent(persons).withElementConverter(nameConverter).to(names);
+
+		final List<String> targetChanges = new ArrayList<String>();
+		names.addListener(new ListChangeListener<String>() {
+
+			@Override
+			public void onChanged(Change<? extends String> change) {
+				while (change.next()) {
+					targetChanges.add(change.getFrom() + ":" + change.wasReplaced() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+				}
+			}
+		});
+
+		//when
+		persons.set(1, person("Bob", 20));
+
+		//then
+		assertThat(names).containsExactly("Robert", "Bob", "Charlie");
+		assertThat(targetChanges).containsExactly("1:true:[Alice]->[Bob]");
+	}
+
+	@Test
+	public void testElementsAreValidated() {
+
+		//given
+		ObservableList<Person> persons = FXCollections.observableArrayList(person("Robert", 30));
+		ObservableList<String> names = FXCollections.observableArrayList();
+
+		BindingContext context = new BindingContext();
+		ListContentBinding<Person, String> binding = context.bindContent(persons)
+			.withElementConverter(nameConverter)
+			.to(names);
+
+		//when
+		persons.add(person("Bob", 5));
+
+		//then
+		assertThat(binding.getElementViolations(0)).isEmpty();
+		assertThat(binding.getElementViolations(1)).hasSize(2);
+		assertThat(binding.targetConstraintViolationsProperty().getValue()).hasSize(2);
+		assertThat(context.isValidProperty().getValue()).isFalse();
+
+		//when
+		persons.remove(1);
+
+		//then
+		assertThat(binding.targetConstraintViolationsProperty().getValue()).isEmpty();
+		assertThat(context.isValidProperty().getValue()).isTrue();
+	}
+
+	private Person person(String name, int age) {
+
+		Person person = new Person();
+		person.setName(name);
+		person.setAge(age);
+		person.setBirthday(new Date(0));
+		person.setGender(Gender.values()[0]);
+
+		return person;
+	}
+}
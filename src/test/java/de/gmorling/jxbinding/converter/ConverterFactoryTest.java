@@ -0,0 +1,53 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+import static org.fest.assertions.Assertions.assertThat;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+
+import org.junit.Test;
+
+public class ConverterFactoryTest {
+
+	@Test
+	public void testConvertersAreShared() {
+
+		Converter<String, String> noOpConverter1 = ConverterFactory.getConverter(new SimpleStringProperty(), new SimpleStringProperty());
+		Converter<String, String> noOpConverter2 = ConverterFactory.getConverter(new SimpleStringProperty(), new SimpleStringProperty());
+
+		assertThat(noOpConverter1).isInstanceOf(NoOpConverter.class);
+		assertThat(noOpConverter1).isSameAs(noOpConverter2);
+	}
+
+	@Test
+	public void testPrimitiveTypesAreMatchedWithWrapperTypes() {
+
+		assertThat(ConverterFactory.getRegistry().getConverter(int.class, String.class)).isSameAs(IntTextConverter.INSTANCE);
+		assertThat(ConverterFactory.getConverter(new SimpleIntegerProperty(), new SimpleStringProperty())).isSameAs(IntTextConverter.INSTANCE);
+	}
+
+	@Test
+	public void testConverterIsResolvedForSubTypes() {
+
+		ConverterRegistry registry = new ConverterRegistry();
+		StringToIntConverter converter = new StringToIntConverter();
+		registry.register(Number.class, String.class, converter);
+
+		assertThat(registry.getConverter(Integer.class, String.class)).isSameAs(converter);
+		assertThat(registry.getConverter(String.class, Integer.class)).isNull();
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class DoubleTextConverterTest {
+
+	private final DoubleTextConverter converter = DoubleTextConverter.INSTANCE;
+
+	@Test
+	public void testParse() {
+
+		assertThat(converter.parse("0")).isEqualTo(0.0);
+		assertThat(converter.parse("+4.2")).isEqualTo(4.2);
+		assertThat(converter.parse("-.5")).isEqualTo(-0.5);
+		assertThat(converter.parse("1.")).isEqualTo(1.0);
+		assertThat(converter.parse(new StringBuilder("1.5E3"))).isEqualTo(1500.0);
+		assertThat(converter.parse("2e-1")).isEqualTo(0.2);
+	}
+
+	@Test
+	public void testParseRejectsWhatIntegralConvertersReject() {
+
+		String[] invalidTexts = { " 1", "1 ", "NaN", "Infinity", "-Infinity", "0x1p3", "1d", "1f", ".", "-", "1e", "1e+", "1e999" };
+
+		for (String oneInvalidText : invalidTexts) {
+			try {
+				converter.parse(oneInvalidText);
+				throw new AssertionError("Expected ConversionException for " + oneInvalidText);
+			}
+			catch (ConversionException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testFormat() {
+
+		StringBuilder sb = new StringBuilder();
+		converter.format(-4.2, sb);
+
+		assertThat(sb.toString()).isEqualTo("-4.2");
+	}
+}
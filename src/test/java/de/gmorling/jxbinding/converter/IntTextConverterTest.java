@@ -0,0 +1,69 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class IntTextConverterTest {
+
+	private final IntTextConverter converter = IntTextConverter.INSTANCE;
+
+	@Test
+	public void testParse() {
+
+		assertThat(converter.parse("0")).isEqualTo(0);
+		assertThat(converter.parse("+42")).isEqualTo(42);
+		assertThat(converter.parse("-42")).isEqualTo(-42);
+		assertThat(converter.parse(new StringBuilder("2147483647"))).isEqualTo(Integer.MAX_VALUE);
+		assertThat(converter.parse("-2147483648")).isEqualTo(Integer.MIN_VALUE);
+	}
+
+	@Test(expected = ConversionException.class)
+	public void testParseOverflow() {
+		converter.parse("2147483648");
+	}
+
+	@Test(expected = ConversionException.class)
+	public void testParseInvalidCharacter() {
+		converter.parse("4x2");
+	}
+
+	@Test(expected = ConversionException.class)
+	public void testParseWhitespace() {
+		converter.parse(" 42");
+	}
+
+	@Test(expected = ConversionException.class)
+	public void testParseNonAsciiDigit() {
+		converter.parse("4\u0662");
+	}
+
+	@Test(expected = ConversionException.class)
+	public void testParseSignOnly() {
+		converter.parse("-");
+	}
+
+	@Test
+	public void testFormat() {
+
+		StringBuilder sb = new StringBuilder();
+		converter.format(-42, sb);
+
+		assertThat(sb.toString()).isEqualTo("-42");
+	}
+}
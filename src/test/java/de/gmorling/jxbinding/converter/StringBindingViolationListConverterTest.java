@@ -0,0 +1,62 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.gmorling.jxbinding.BindingViolation;
+
+public class StringBindingViolationListConverterTest {
+
+	@Test
+	public void testLongFormat() {
+
+		List<BindingViolation> violations = Arrays.asList(
+				new BindingViolation("Name", "may not be null"),
+				new BindingViolation(null, "must be a valid number"));
+
+		assertThat(new StringBindingViolationListConverter().toTarget(violations))
+			.isEqualTo("Name may not be null\n must be a valid number");
+	}
+
+	@Test
+	public void testAdditionalPlaceholders() {
+
+		List<BindingViolation> violations = Arrays.asList(
+				new BindingViolation("Name", "size must be between 5 and 10", "name", "Size", "Bob"));
+
+		StringBindingViolationListConverter converter =
+			new StringBindingViolationListConverter("${propertyPath}: ${invalidValue} (${constraintType}) ${unknown}");
+
+		assertThat(converter.toTarget(violations)).isEqualTo("name: Bob (Size) ${unknown}");
+	}
+
+	@Test
+	public void testRenderingIsMemoized() {
+
+		StringBindingViolationListConverter converter = new StringBindingViolationListConverter();
+
+		String rendering1 = converter.toTarget(Arrays.asList(new BindingViolation("Name", "may not be null")));
+		String rendering2 = converter.toTarget(Arrays.asList(new BindingViolation("Name", "may not be null")));
+
+		assertThat(rendering1).isSameAs(rendering2);
+	}
+}
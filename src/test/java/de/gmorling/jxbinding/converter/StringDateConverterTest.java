@@ -0,0 +1,88 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.converter;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class StringDateConverterTest {
+
+	@Test
+	public void testRoundTrip() {
+
+		StringDateConverter converter = new StringDateConverter("dd.MM.yyyy");
+
+		assertThat(converter.toTarget(converter.toModel("24.12.2011"))).isEqualTo("24.12.2011");
+	}
+
+	@Test
+	public void testInvalidDatesAreRejected() {
+
+		StringDateConverter converter = new StringDateConverter("dd.MM.yyyy");
+
+		assertThat(converter.tryParse("32.12.2011")).isNull();
+		assertThat(converter.tryParse("24.12.2011 foo")).isNull();
+		assertThat(converter.tryParse("foo")).isNull();
+	}
+
+	@Test(expected = ConversionException.class)
+	public void testInvalidDateRaisesConversionException() {
+		new StringDateConverter("dd.MM.yyyy").toModel("foo");
+	}
+
+	@Test
+	public void testIsoInstant() {
+		assertThat(StringDateConverter.isoInstant().toTarget(new Date(0))).isEqualTo("1970-01-01T00:00:00.000Z");
+	}
+
+	@Test
+	public void testConcurrentUsage() throws Exception {
+
+		final StringDateConverter converter = new StringDateConverter("dd.MM.yyyy");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+
+		for (int i = 0; i < 8; i++) {
+			final String date = String.format("%02d.0%d.2011", i + 1, i + 1);
+			results.add(executor.submit(new Callable<Boolean>() {
+				@Override
+				public Boolean call() {
+					for (int j = 0; j < 1000; j++) {
+						if (!date.equals(converter.toTarget(converter.toModel(date)))) {
+							return false;
+						}
+					}
+					return true;
+				}
+			}));
+		}
+
+		for (Future<Boolean> oneResult : results) {
+			assertThat(oneResult.get()).isTrue();
+		}
+
+		executor.shutdown();
+	}
+}
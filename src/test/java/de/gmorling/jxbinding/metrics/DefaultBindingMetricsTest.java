@@ -0,0 +1,95 @@
+/**
+ *  Copyright 2011 Gunnar Morling (http://www.gunnarmorling.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package de.gmorling.jxbinding.metrics;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import de.gmorling.jxbinding.Binding;
+import de.gmorling.jxbinding.BindingContext;
+import de.gmorling.jxbinding.example.model.Person;
+import de.gmorling.jxbinding.metrics.BindingMetrics.Operation;
+
+public class DefaultBindingMetricsTest {
+
+	@Test
+	public void testOperationsAreRecorded() {
+
+		//given
+		DefaultBindingMetrics metrics = new DefaultBindingMetrics();
+		Person person = new Person();
+		StringProperty nameProperty = new SimpleStringProperty();
+
+		BindingContext context = new BindingContext();
+		context.setMetrics(metrics);
+		Binding<String, String> binding = context.bind(person.nameProperty()).to(nameProperty);
+
+		//when
+		nameProperty.setValue("Bob");
+		person.setName("Robert");
+
+		//then
+		assertThat(metrics.getConversionToModelCount()).isEqualTo(1);
+		assertThat(metrics.getValidationCount()).isEqualTo(1);
+		assertThat(metrics.getConversionToTargetCount()).isGreaterThanOrEqualTo(1);
+		assertThat(metrics.getListenerDispatchCount()).isGreaterThanOrEqualTo(2);
+		assertThat(metrics.getViolationAggregationCount()).isGreaterThanOrEqualTo(1);
+		assertThat(metrics.getHistogram(Operation.VALIDATION, binding).getCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testPercentiles() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for (int i = 0; i < 99; i++) {
+			histogram.record(100);
+		}
+		histogram.record(5000);
+
+		assertThat(histogram.getCount()).isEqualTo(100);
+		assertThat(histogram.getPercentileNanos(0.5)).isEqualTo(127);
+		assertThat(histogram.getPercentileNanos(0.99)).isEqualTo(127);
+		assertThat(histogram.getPercentileNanos(1)).isEqualTo(8191);
+	}
+
+	@Test
+	public void testRegisterMBean() throws Exception {
+
+		DefaultBindingMetrics metrics = new DefaultBindingMetrics();
+		ObjectName objectName = new ObjectName("de.gmorling.jxbinding:type=BindingMetrics,name="
+			+ ObjectName.quote("test"));
+
+		metrics.registerMBean("test");
+		try {
+			assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "ValidationCount"))
+				.isEqualTo(0L);
+		}
+		finally {
+			metrics.unregisterMBean();
+		}
+
+		assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName)).isFalse();
+	}
+}